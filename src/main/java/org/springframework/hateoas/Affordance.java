@@ -15,11 +15,17 @@
  */
 package org.springframework.hateoas;
 
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.core.io.support.SpringFactoriesLoader;
@@ -29,29 +35,53 @@ import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
 
 /**
- * Hold the {@link AffordanceModel}s for all supported media types.
+ * Hold the {@link AffordanceModel}s for all supported media types. The individual models are only created once they
+ * are requested for a particular {@link MediaType} and are kept for subsequent lookups.
  *
  * @author Greg Turnquist
  * @author Oliver Gierke
  */
 @Value
+@ToString(exclude = "affordanceModels")
+@EqualsAndHashCode(exclude = "affordanceModels")
 public class Affordance {
 
-	private static List<AffordanceModelFactory> factories = SpringFactoriesLoader.loadFactories(AffordanceModelFactory.class, Affordance.class.getClassLoader());
+	private static final Map<MediaType, AffordanceModelFactory> FACTORIES = new LinkedHashMap<>();
+
+	static {
+
+		for (AffordanceModelFactory factory : SpringFactoriesLoader.loadFactories(AffordanceModelFactory.class,
+				Affordance.class.getClassLoader())) {
+
+			if (factory.getMediaType() != null) {
+				FACTORIES.put(factory.getMediaType(), factory);
+			}
+		}
+	}
+
+	private final String name;
+	private final Link link;
+	private final HttpMethod httpMethod;
+	private final ResolvableType inputType;
+	private final List<QueryParameter> queryMethodParameters;
+	private final ResolvableType outputType;
 
 	/**
-	 * Collection of {@link AffordanceModel}s related to this affordance.
+	 * Collection of {@link AffordanceModel}s related to this affordance, populated on first access per {@link MediaType}.
 	 */
-	private final Map<MediaType, AffordanceModel> affordanceModels = new HashMap<>();
+	private final @Getter(AccessLevel.NONE) Map<MediaType, AffordanceModel> affordanceModels = new ConcurrentHashMap<>();
 
 	public Affordance(String name, Link link, HttpMethod httpMethod, ResolvableType inputType, List<QueryParameter> queryMethodParameters, ResolvableType outputType) {
 
 		Assert.notNull(httpMethod, "httpMethod must not be null!");
 		Assert.notNull(queryMethodParameters, "queryMethodParameters must not be null!");
 
-		for (AffordanceModelFactory factory : factories) {
-			this.affordanceModels.put(factory.getMediaType(), factory.getAffordanceModel(name, link, httpMethod, inputType, queryMethodParameters, outputType));
-		}
+		this.name = name;
+		this.link = link;
+		this.httpMethod = httpMethod;
+		this.inputType = inputType;
+		this.queryMethodParameters = queryMethodParameters;
+		this.outputType = outputType;
 	}
 
 	/**
@@ -62,6 +92,28 @@ public class Affordance {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T extends AffordanceModel> T getAffordanceModel(MediaType mediaType) {
-		return (T) this.affordanceModels.get(mediaType);
+
+		AffordanceModelFactory factory = FACTORIES.get(mediaType);
+
+		return factory == null //
+				? null //
+				: (T) this.affordanceModels.computeIfAbsent(mediaType, it -> factory.getAffordanceModel(name, link, httpMethod,
+						inputType, queryMethodParameters, outputType));
+	}
+
+	/**
+	 * Returns the {@link AffordanceModel}s for all supported media types, creating the ones not requested yet.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Map<MediaType, AffordanceModel> getAffordanceModels() {
+
+		Map<MediaType, AffordanceModel> result = new LinkedHashMap<>();
+
+		for (MediaType mediaType : FACTORIES.keySet()) {
+			result.put(mediaType, getAffordanceModel(mediaType));
+		}
+
+		return Collections.unmodifiableMap(result);
 	}
 }
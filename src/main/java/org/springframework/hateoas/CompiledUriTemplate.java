@@ -0,0 +1,460 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.util.Assert;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponents.UriTemplateVariables;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * The base URI of a {@link UriTemplate} parsed once into literal and variable parts per URI component. Literal parts
+ * are encoded upfront so that expanding the template only needs to encode the variable values and can assemble the
+ * resulting {@link URI} in a single pass without re-parsing intermediate {@link URI}s or {@link UriComponents}.
+ * Instances are immutable and held by the {@link UriTemplate} they were compiled for, so that they share its life
+ * cycle, including the caching of {@link UriTemplate}s by {@link UriTemplateCache}.
+ *
+ * @author Oliver Gierke
+ * @since 1.0
+ * @see UriTemplate#expand(Object...)
+ * @see UriTemplate#expand(Map)
+ */
+final class CompiledUriTemplate {
+
+	private static final Pattern NAMES_PATTERN = Pattern.compile("\\{([^/]+?)\\}");
+	private static final Pattern PORT_TEMPLATE_PATTERN = Pattern.compile("^[^/]*//[^/]*?:(\\{[^}]+\\})");
+	private static final Charset UTF_8 = StandardCharsets.UTF_8;
+
+	private final UriComponents components;
+	private final boolean opaque;
+	private final String scheme;
+	private final Part schemeSpecificPart, userInfo, host, port, path, fragment;
+	private final List<QueryParameterPart> queryParameters;
+
+	private CompiledUriTemplate(String baseUri) {
+
+		this.components = UriComponentsBuilder.fromUriString(baseUri).build();
+		this.opaque = components.getSchemeSpecificPart() != null;
+		this.scheme = components.getScheme();
+
+		this.schemeSpecificPart = Part.of(components.getSchemeSpecificPart(), null);
+		this.userInfo = Part.of(components.getUserInfo(), it -> UriUtils.encodeUserInfo(it, UTF_8));
+		this.host = Part.of(components.getHost(),
+				it -> it.startsWith("[") ? it : UriUtils.encodeHost(it, UTF_8));
+		this.port = Part.of(getPortTemplate(components), null);
+		this.path = Part.of(components.getPath(), it -> UriUtils.encodePath(it, UTF_8));
+		this.fragment = Part.of(components.getFragment(), opaque ? null : it -> UriUtils.encodeFragment(it, UTF_8));
+
+		this.queryParameters = new ArrayList<>();
+
+		for (Entry<String, List<String>> entry : components.getQueryParams().entrySet()) {
+
+			Part name = Part.of(entry.getKey(), CompiledUriTemplate::encodeQueryParameter);
+
+			for (String value : entry.getValue()) {
+				queryParameters.add(new QueryParameterPart(name, Part.of(value, CompiledUriTemplate::encodeQueryParameter)));
+			}
+		}
+	}
+
+	/**
+	 * Compiles the given base URI.
+	 *
+	 * @param baseUri must not be {@literal null} or empty.
+	 * @return
+	 */
+	static CompiledUriTemplate of(String baseUri) {
+
+		Assert.hasText(baseUri, "Base URI must not be null or empty!");
+
+		return new CompiledUriTemplate(baseUri);
+	}
+
+	/**
+	 * Returns the {@link UriComponents} of the unexpanded base URI.
+	 *
+	 * @return
+	 */
+	UriComponents getComponents() {
+		return components;
+	}
+
+	/**
+	 * Returns whether the base URI already contains query parameters.
+	 *
+	 * @return
+	 */
+	boolean hasQueryParameters() {
+		return !queryParameters.isEmpty();
+	}
+
+	/**
+	 * Expands the base URI with the given {@link UriTemplateVariables} and appends the given optional
+	 * {@link TemplateVariable}s using the values obtained from the given {@link Function}.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @param optionalVariables must not be {@literal null}.
+	 * @param optionalValues must not be {@literal null}.
+	 * @return
+	 */
+	URI expand(UriTemplateVariables values, List<TemplateVariable> optionalVariables,
+			Function<TemplateVariable, Object> optionalValues) {
+
+		StringBuilder builder = new StringBuilder();
+
+		if (opaque) {
+
+			String ssp = schemeSpecificPart.expand(builder, values);
+			String fragment = this.fragment.expand(builder, values);
+
+			for (TemplateVariable variable : optionalVariables) {
+
+				Object value = optionalValues.apply(variable);
+
+				if (value != null && variable.getType() == TemplateVariable.VariableType.FRAGMENT) {
+					fragment = getFragment(value);
+				}
+			}
+
+			try {
+				return new URI(scheme, ssp, fragment);
+			} catch (URISyntaxException o_O) {
+				throw new IllegalStateException("Could not create URI object: " + o_O.getMessage(), o_O);
+			}
+		}
+
+		String userInfo = this.userInfo.expand(builder, values);
+		String host = this.host.expand(builder, values);
+		String port = this.port.expand(builder, values);
+		String path = sanitize(this.path.expand(builder, values));
+
+		MultiValueMap<String, String> queryParameters = new LinkedMultiValueMap<>(this.queryParameters.size());
+
+		for (QueryParameterPart parameter : this.queryParameters) {
+			queryParameters.add(parameter.name.expand(builder, values), parameter.value.expand(builder, values));
+		}
+
+		String fragment = this.fragment.expand(builder, values);
+
+		boolean segmentsAppended = false;
+		builder.setLength(0);
+		builder.append(path == null ? "" : path);
+
+		for (TemplateVariable variable : optionalVariables) {
+
+			Object value = optionalValues.apply(variable);
+
+			if (value == null) {
+				continue;
+			}
+
+			switch (variable.getType()) {
+				case COMPOSITE_PARAM:
+					appendComposite(queryParameters, variable.getName(), value);
+					break;
+				case REQUEST_PARAM:
+				case REQUEST_PARAM_CONTINUED:
+					queryParameters.add(variable.getName(), value.toString());
+					break;
+				case PATH_VARIABLE:
+				case SEGMENT:
+
+					if (!segmentsAppended && builder.length() > 0 && builder.charAt(builder.length() - 1) == '/') {
+						builder.setLength(builder.length() - 1);
+					}
+
+					segmentsAppended = true;
+
+					String segment = value.toString();
+
+					if (StringUtils.hasText(segment)) {
+						builder.append('/').append(segment);
+					}
+
+					break;
+				case FRAGMENT:
+					fragment = getFragment(value);
+					break;
+			}
+		}
+
+		path = builder.length() == 0 ? null : builder.toString();
+
+		if (path != null && path.charAt(0) != '/' && (scheme != null || userInfo != null || host != null || port != null)) {
+			path = "/".concat(path);
+		}
+
+		try {
+			return new URI(scheme, userInfo, host, StringUtils.hasLength(port) ? Integer.parseInt(port) : -1, path,
+					getQuery(builder, queryParameters), fragment);
+		} catch (URISyntaxException o_O) {
+			throw new IllegalStateException("Could not create URI object: " + o_O.getMessage(), o_O);
+		}
+	}
+
+	/**
+	 * Renders the given query parameters the same way {@link UriComponents#getQuery()} does.
+	 *
+	 * @param builder must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 */
+	private static String getQuery(StringBuilder builder, MultiValueMap<String, String> parameters) {
+
+		if (parameters.isEmpty()) {
+			return null;
+		}
+
+		builder.setLength(0);
+
+		for (Entry<String, List<String>> entry : parameters.entrySet()) {
+
+			for (String value : entry.getValue()) {
+
+				if (builder.length() != 0) {
+					builder.append('&');
+				}
+
+				builder.append(entry.getKey());
+
+				if (value != null) {
+					builder.append('=').append(value);
+				}
+			}
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Expand what could be a single value, a {@link List}, or a {@link Map}.
+	 *
+	 * @param parameters must not be {@literal null}.
+	 * @param name must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @see https://tools.ietf.org/html/rfc6570#section-2.4.2
+	 */
+	private static void appendComposite(MultiValueMap<String, String> parameters, String name, Object value) {
+
+		if (value instanceof Iterable) {
+
+			for (Object valuePart : (Iterable<?>) value) {
+				parameters.add(name, valuePart == null ? null : valuePart.toString());
+			}
+
+		} else if (value instanceof Map) {
+
+			for (Entry<?, ?> parameter : ((Map<?, ?>) value).entrySet()) {
+				parameters.add(parameter.getKey().toString(),
+						parameter.getValue() == null ? null : parameter.getValue().toString());
+			}
+
+		} else {
+			parameters.add(name, value.toString());
+		}
+	}
+
+	private static String getFragment(Object value) {
+
+		String fragment = value.toString();
+
+		Assert.hasLength(fragment, "Fragment must not be empty");
+
+		return fragment;
+	}
+
+	/**
+	 * Removes duplicate slashes from the given path just like {@link UriComponentsBuilder} does.
+	 *
+	 * @param path can be {@literal null}.
+	 * @return
+	 */
+	private static String sanitize(String path) {
+
+		if (path == null) {
+			return null;
+		}
+
+		if (path.isEmpty()) {
+			return path;
+		}
+
+		int index = path.indexOf("//");
+
+		if (index == -1) {
+			return path;
+		}
+
+		StringBuilder sanitized = new StringBuilder(path);
+
+		while (index != -1) {
+			sanitized.deleteCharAt(index);
+			index = sanitized.indexOf("//", index);
+		}
+
+		return sanitized.toString();
+	}
+
+	private static String getPortTemplate(UriComponents components) {
+
+		try {
+
+			int port = components.getPort();
+			return port == -1 ? null : String.valueOf(port);
+
+		} catch (IllegalStateException o_O) {
+
+			// Port contains a template variable that UriComponents refuses to expose
+			Matcher matcher = PORT_TEMPLATE_PATTERN.matcher(components.toUriString());
+			return matcher.find() ? matcher.group(1) : null;
+		}
+	}
+
+	private static String encodeQueryParameter(String source) {
+		return UriUtils.encodeQueryParam(source, UTF_8);
+	}
+
+	/**
+	 * A single URI component split up into (pre-encoded) literals and the variables between them.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class Part {
+
+		private static final Part NONE = new Part(null, new String[0], new String[0], new String[0], null);
+
+		private final String template;
+		private final String[] literals, names, expressions;
+		private final UnaryOperator<String> encoder;
+
+		private Part(String template, String[] literals, String[] names, String[] expressions,
+				UnaryOperator<String> encoder) {
+
+			this.template = template;
+			this.literals = literals;
+			this.names = names;
+			this.expressions = expressions;
+			this.encoder = encoder;
+		}
+
+		/**
+		 * Parses the given URI component template.
+		 *
+		 * @param template can be {@literal null}.
+		 * @param encoder the encoder to apply to the expanded component, {@literal null} to skip encoding.
+		 * @return
+		 */
+		static Part of(String template, UnaryOperator<String> encoder) {
+
+			if (template == null) {
+				return NONE;
+			}
+
+			UnaryOperator<String> effectiveEncoder = encoder == null ? UnaryOperator.identity() : encoder;
+
+			List<String> literals = new ArrayList<>();
+			List<String> names = new ArrayList<>();
+			List<String> expressions = new ArrayList<>();
+
+			Matcher matcher = NAMES_PATTERN.matcher(template);
+			int position = 0;
+
+			while (matcher.find()) {
+
+				String match = matcher.group(1);
+				int colonIndex = match.indexOf(':');
+
+				literals.add(effectiveEncoder.apply(template.substring(position, matcher.start())));
+				names.add(colonIndex == -1 ? match : match.substring(0, colonIndex));
+				expressions.add(matcher.group());
+
+				position = matcher.end();
+			}
+
+			literals.add(effectiveEncoder.apply(template.substring(position)));
+
+			return new Part(template, literals.toArray(new String[0]), names.toArray(new String[0]),
+					expressions.toArray(new String[0]), effectiveEncoder);
+		}
+
+		/**
+		 * Expands the component using the given {@link UriTemplateVariables}.
+		 *
+		 * @param builder a {@link StringBuilder} to use as buffer, must not be {@literal null}.
+		 * @param values must not be {@literal null}.
+		 * @return the expanded and encoded component or {@literal null} if the component is not present at all.
+		 */
+		String expand(StringBuilder builder, UriTemplateVariables values) {
+
+			if (template == null) {
+				return null;
+			}
+
+			if (names.length == 0) {
+				return literals[0];
+			}
+
+			builder.setLength(0);
+
+			for (int i = 0; i < names.length; i++) {
+
+				builder.append(literals[i]);
+
+				Object value = values.getValue(names[i]);
+				String rendered = value == UriTemplateVariables.SKIP_VALUE //
+						? expressions[i] //
+						: value == null ? "" : value.toString();
+
+				builder.append(encoder.apply(rendered));
+			}
+
+			return builder.append(literals[names.length]).toString();
+		}
+	}
+
+	/**
+	 * A query parameter consisting of a name and an optional value.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class QueryParameterPart {
+
+		private final Part name, value;
+
+		QueryParameterPart(Part name, Part value) {
+
+			this.name = name;
+			this.value = value;
+		}
+	}
+}
@@ -16,6 +16,10 @@
 package org.springframework.hateoas;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -773,6 +777,11 @@ public enum IanaLinkRelation implements LinkRelation {
 	 */
 	public static final Set<String> RELS;
 
+	/**
+	 * {@link IanaLinkRelation}s by their values converted to lower case.
+	 */
+	private static final Map<String, IanaLinkRelation> BY_VALUE;
+
 	static {
 
 		LINK_RELATIONS = Arrays.stream(IanaLinkRelation.values())
@@ -781,6 +790,14 @@ public enum IanaLinkRelation implements LinkRelation {
 		RELS = LINK_RELATIONS.stream()
 			.map(LinkRelation::value)
 			.collect(Collectors.toSet());
+
+		Map<String, IanaLinkRelation> byValue = new HashMap<>();
+
+		for (IanaLinkRelation relation : values()) {
+			byValue.put(relation.value.toLowerCase(Locale.US), relation);
+		}
+
+		BY_VALUE = Collections.unmodifiableMap(byValue);
 	}
 
 	/**
@@ -792,11 +809,7 @@ public enum IanaLinkRelation implements LinkRelation {
 	 * @return boolean
 	 */
 	public static boolean isIanaRel(String rel) {
-
-		return
-			rel != null
-			&&
-			LINK_RELATIONS.stream().anyMatch(linkRelation -> linkRelation.value().equalsIgnoreCase(rel));
+		return lookup(rel) != null;
 	}
 
 	/**
@@ -808,12 +821,7 @@ public enum IanaLinkRelation implements LinkRelation {
 	 * @return
 	 */
 	public static boolean isIanaRel(LinkRelation rel) {
-		
-		return
-			rel != null
-			&&
-			LINK_RELATIONS.stream().anyMatch(linkRelation -> linkRelation.value.equalsIgnoreCase(rel.value()));
-
+		return rel != null && lookup(rel.value()) != null;
 	}
 
 	/**
@@ -826,9 +834,44 @@ public enum IanaLinkRelation implements LinkRelation {
 	 */
 	public static IanaLinkRelation parse(String rel) {
 
-		return LINK_RELATIONS.stream()
-			.filter(linkRelation -> linkRelation.value().equalsIgnoreCase(rel))
-			.findFirst()
-			.orElseThrow(() -> new IllegalArgumentException(rel + " is not a valid IANA link relation!"));
+		IanaLinkRelation relation = lookup(rel);
+
+		if (relation == null) {
+			throw new IllegalArgumentException(rel + " is not a valid IANA link relation!");
+		}
+
+		return relation;
+	}
+
+	/**
+	 * Returns the canonical {@link String} instance for the given relation if it's an IANA link relation given in its
+	 * canonical spelling, so that {@link Link}s don't each keep their own copy of the same relation value.
+	 *
+	 * @param rel can be {@literal null}.
+	 * @return the canonical instance of the given relation or the relation itself.
+	 */
+	static String canonicalize(String rel) {
+
+		IanaLinkRelation relation = lookup(rel);
+
+		return relation != null && relation.value.equals(rel) ? relation.value : rel;
+	}
+
+	/**
+	 * Looks up the {@link IanaLinkRelation} for the given value ignoring case. Tries the value as is first, as relations
+	 * are usually given in lower case already.
+	 *
+	 * @param rel can be {@literal null}.
+	 * @return the {@link IanaLinkRelation} or {@literal null} if the given value is not an IANA link relation.
+	 */
+	private static IanaLinkRelation lookup(String rel) {
+
+		if (rel == null) {
+			return null;
+		}
+
+		IanaLinkRelation relation = BY_VALUE.get(rel);
+
+		return relation != null ? relation : BY_VALUE.get(rel.toLowerCase(Locale.US));
 	}
 }
@@ -22,13 +22,11 @@ import lombok.Getter;
 import lombok.experimental.Wither;
 
 import java.io.Serializable;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.http.HttpMethod;
@@ -54,11 +52,6 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 public class Link implements Serializable {
 
 	private static final long serialVersionUID = -9037755944661782121L;
-	private static final String URI_PATTERN = "(https?|ftp|file)://[-a-zA-Z0-9+&@#/%?=~_|!:,.;]*[-a-zA-Z0-9+&@#/%=~_|]";
-
-	private static final Pattern URI_AND_ATTRIBUTES_PATTERN = Pattern.compile("<(.*)>;(.*)");
-	private static final Pattern KEY_AND_VALUE_PATTERN = Pattern
-			.compile("(\\w+)=\"(\\p{Lower}[\\p{Lower}\\p{Digit}.\\-\\s]*|" + URI_PATTERN + ")\"");
 
 	public static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
 
@@ -120,7 +113,20 @@ public class Link implements Serializable {
 	 * @param rel must not be {@literal null} or empty.
 	 */
 	public Link(String href, String rel) {
-		this(new UriTemplate(href), rel);
+
+		Assert.hasText(href, "Href must not be null or empty!");
+		Assert.hasText(rel, "Rel must not be null or empty!");
+
+		// Only templates need parsing to render a normalized href, plain URIs get parsed lazily if needed at all
+		if (href.indexOf('{') != -1) {
+			this.template = UriTemplate.of(href);
+			this.href = template.toString();
+		} else {
+			this.href = href;
+		}
+
+		this.rel = IanaLinkRelation.canonicalize(rel);
+		this.affordances = Collections.emptyList();
 	}
 
 	/**
@@ -136,8 +142,8 @@ public class Link implements Serializable {
 
 		this.template = template;
 		this.href = template.toString();
-		this.rel = rel;
-		this.affordances = new ArrayList<>();
+		this.rel = IanaLinkRelation.canonicalize(rel);
+		this.affordances = Collections.emptyList();
 	}
 
 	public Link(String href, String rel, List<Affordance> affordances) {
@@ -153,7 +159,7 @@ public class Link implements Serializable {
 	 * Empty constructor required by the marshalling framework.
 	 */
 	protected Link() {
-		this.affordances = new ArrayList<>();
+		this.affordances = Collections.emptyList();
 	}
 
 	/**
@@ -267,7 +273,7 @@ public class Link implements Serializable {
 	 */
 	@JsonIgnore
 	public List<String> getVariableNames() {
-		return getUriTemplate().getVariableNames();
+		return isPlainUri() ? Collections.emptyList() : getUriTemplate().getVariableNames();
 	}
 
 	/**
@@ -277,7 +283,7 @@ public class Link implements Serializable {
 	 */
 	@JsonIgnore
 	public List<TemplateVariable> getVariables() {
-		return getUriTemplate().getVariables();
+		return isPlainUri() ? Collections.emptyList() : getUriTemplate().getVariables();
 	}
 
 	/**
@@ -286,7 +292,7 @@ public class Link implements Serializable {
 	 * @return
 	 */
 	public boolean isTemplated() {
-		return !getUriTemplate().getVariables().isEmpty();
+		return !isPlainUri() && !getUriTemplate().getVariables().isEmpty();
 	}
 
 	/**
@@ -296,7 +302,7 @@ public class Link implements Serializable {
 	 * @return
 	 */
 	public Link expand(Object... arguments) {
-		return new Link(getUriTemplate().expand(arguments).toString(), getRel());
+		return isPlainUri() ? expandPlainUri() : new Link(getUriTemplate().expand(arguments).toString(), getRel());
 	}
 
 	/**
@@ -306,7 +312,7 @@ public class Link implements Serializable {
 	 * @return
 	 */
 	public Link expand(Map<String, ? extends Object> arguments) {
-		return new Link(getUriTemplate().expand(arguments).toString(), getRel());
+		return isPlainUri() ? expandPlainUri() : new Link(getUriTemplate().expand(arguments).toString(), getRel());
 	}
 
 	/**
@@ -322,10 +328,40 @@ public class Link implements Serializable {
 		return this.rel.equals(rel);
 	}
 
+	/**
+	 * Returns the {@link UriTemplate} of the {@link Link}, parsing the href on first access if necessary.
+	 *
+	 * @return
+	 */
+	@JsonIgnore
+	public UriTemplate getTemplate() {
+		return getUriTemplate();
+	}
+
+	/**
+	 * Returns whether the href doesn't contain any template variables, so that it doesn't need to be parsed into a
+	 * {@link UriTemplate} to answer questions about them.
+	 *
+	 * @return
+	 */
+	private boolean isPlainUri() {
+		return href.indexOf('{') == -1;
+	}
+
+	/**
+	 * Expanding a plain URI results in a {@link Link} with the same href and rel, just as expanding a {@link UriTemplate}
+	 * without variables does.
+	 *
+	 * @return
+	 */
+	private Link expandPlainUri() {
+		return new Link(URI.create(href).toString(), getRel());
+	}
+
 	private UriTemplate getUriTemplate() {
 
 		if (template == null) {
-			this.template = new UriTemplate(href);
+			this.template = UriTemplate.of(href);
 		}
 
 		return template;
@@ -337,34 +373,55 @@ public class Link implements Serializable {
 	 */
 	@Override
 	public String toString() {
+		return appendTo(new StringBuilder(estimateLength())).toString();
+	}
 
-		String linkString = String.format("<%s>;rel=\"%s\"", href, rel);
+	/**
+	 * Appends the RFC-5988 compatible {@link String} representation of the current {@link Link} to the given
+	 * {@link StringBuilder}.
+	 *
+	 * @param builder must not be {@literal null}.
+	 * @return the given {@link StringBuilder}.
+	 * @see #toString()
+	 */
+	public StringBuilder appendTo(StringBuilder builder) {
 
-		if (hreflang != null) {
-			linkString += ";hreflang=\"" + hreflang + "\"";
-		}
+		Assert.notNull(builder, "StringBuilder must not be null!");
 
-		if (media != null) {
-			linkString += ";media=\"" + media + "\"";
-		}
+		builder.append('<').append(href).append(">;rel=\"").append(rel).append('"');
 
-		if (title != null) {
-			linkString += ";title=\"" + title + "\"";
-		}
+		appendAttribute(builder, "hreflang", hreflang);
+		appendAttribute(builder, "media", media);
+		appendAttribute(builder, "title", title);
+		appendAttribute(builder, "type", type);
+		appendAttribute(builder, "deprecation", deprecation);
+		appendAttribute(builder, "profile", profile);
 
-		if (type != null) {
-			linkString += ";type=\"" + type + "\"";
-		}
+		return builder;
+	}
 
-		if (deprecation != null) {
-			linkString += ";deprecation=\"" + deprecation + "\"";
-		}
+	/**
+	 * Returns an estimate of the length of the {@link String} representation of the current {@link Link} to size
+	 * buffers upfront.
+	 *
+	 * @return
+	 */
+	int estimateLength() {
 
-		if (profile != null) {
-			linkString += ";profile=\"" + profile + "\"";
+		return 10 + String.valueOf(href).length() + String.valueOf(rel).length() //
+				+ attributeLength(hreflang) + attributeLength(media) + attributeLength(title) //
+				+ attributeLength(type) + attributeLength(deprecation) + attributeLength(profile);
+	}
+
+	private static void appendAttribute(StringBuilder builder, String name, String value) {
+
+		if (value != null) {
+			builder.append(';').append(name).append("=\"").append(value).append('"');
 		}
+	}
 
-		return linkString;
+	private static int attributeLength(String value) {
+		return value == null ? 0 : value.length() + 16;
 	}
 
 	/**
@@ -382,68 +439,6 @@ public class Link implements Serializable {
 			return null;
 		}
 
-		Matcher matcher = URI_AND_ATTRIBUTES_PATTERN.matcher(element);
-
-		if (matcher.find()) {
-
-			Map<String, String> attributes = getAttributeMap(matcher.group(2));
-
-			if (!attributes.containsKey("rel")) {
-				throw new IllegalArgumentException("Link does not provide a rel attribute!");
-			}
-
-			Link link = new Link(matcher.group(1), attributes.get("rel"));
-
-			if (attributes.containsKey("hreflang")) {
-				link = link.withHreflang(attributes.get("hreflang"));
-			}
-
-			if (attributes.containsKey("media")) {
-				link = link.withMedia(attributes.get("media"));
-			}
-
-			if (attributes.containsKey("title")) {
-				link = link.withTitle(attributes.get("title"));
-			}
-
-			if (attributes.containsKey("type")) {
-				link = link.withType(attributes.get("type"));
-			}
-
-			if (attributes.containsKey("deprecation")) {
-				link = link.withDeprecation(attributes.get("deprecation"));
-			}
-
-			if (attributes.containsKey("profile")) {
-				link = link.withProfile(attributes.get("profile"));
-			}
-
-			return link;
-
-		} else {
-			throw new IllegalArgumentException(String.format("Given link header %s is not RFC5988 compliant!", element));
-		}
-	}
-
-	/**
-	 * Parses the links attributes from the given source {@link String}.
-	 * 
-	 * @param source
-	 * @return
-	 */
-	private static Map<String, String> getAttributeMap(String source) {
-
-		if (!StringUtils.hasText(source)) {
-			return Collections.emptyMap();
-		}
-
-		Map<String, String> attributes = new HashMap<>();
-		Matcher matcher = KEY_AND_VALUE_PATTERN.matcher(source);
-
-		while (matcher.find()) {
-			attributes.put(matcher.group(1), matcher.group(2));
-		}
-
-		return attributes;
+		return LinkHeaderParser.parseLink(element);
 	}
 }
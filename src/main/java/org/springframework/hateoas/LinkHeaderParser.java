@@ -0,0 +1,298 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Single-pass parser for RFC-8288 {@code Link} headers. Splits headers into link elements of the form
+ * {@code <href>; key=value; key="quoted value"} and reads the parameters of each element. Parameter values can be
+ * tokens or quoted strings, the latter potentially containing escaped characters. Parameter names are case-insensitive
+ * and only the first occurrence of a parameter is considered.
+ *
+ * @author Oliver Gierke
+ * @since 1.0
+ * @see Links#valueOf(String)
+ * @see Link#valueOf(String)
+ * @see <a href="https://tools.ietf.org/html/rfc8288#section-3">RFC 8288, Section 3 - Link Serialisation in HTTP
+ *      Headers</a>
+ */
+final class LinkHeaderParser {
+
+	private static final String TOKEN_CHARACTERS = "!#$%&'*+-.^_`|~";
+
+	private LinkHeaderParser() {}
+
+	/**
+	 * Parses all {@link Link}s contained in the given header value. Skips elements that don't carry any parameters as well
+	 * as malformed content between elements.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException if an element doesn't contain a {@code rel} parameter.
+	 */
+	static List<Link> parseLinks(String source) {
+
+		List<Link> links = new ArrayList<>();
+		int start = source.indexOf('<');
+
+		while (start != -1) {
+
+			int hrefEnd = source.indexOf('>', start + 1);
+
+			if (hrefEnd == -1) {
+				break;
+			}
+
+			Map<String, String> parameters = new HashMap<>(8);
+			int end = parseParameters(source, hrefEnd + 1, parameters);
+
+			if (!parameters.isEmpty()) {
+				links.add(createLink(source.substring(start + 1, hrefEnd), parameters));
+			}
+
+			start = source.indexOf('<', skipToNextElement(source, end));
+		}
+
+		return links;
+	}
+
+	/**
+	 * Parses a single link element.
+	 *
+	 * @param element must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException if the given element is not a link element or doesn't contain a {@code rel}
+	 *           parameter.
+	 */
+	static Link parseLink(String element) {
+
+		int start = element.indexOf('<');
+		int hrefEnd = start == -1 ? -1 : element.indexOf('>', start + 1);
+
+		if (hrefEnd == -1) {
+			throw new IllegalArgumentException(String.format("Given link header %s is not RFC5988 compliant!", element));
+		}
+
+		Map<String, String> parameters = new HashMap<>(8);
+		parseParameters(element, hrefEnd + 1, parameters);
+
+		return createLink(element.substring(start + 1, hrefEnd), parameters);
+	}
+
+	/**
+	 * Creates a {@link Link} for the given href and parameters.
+	 *
+	 * @param href must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 */
+	private static Link createLink(String href, Map<String, String> parameters) {
+
+		String rel = parameters.get("rel");
+
+		if (rel == null) {
+			throw new IllegalArgumentException("Link does not provide a rel attribute!");
+		}
+
+		Link link = new Link(href, rel);
+
+		if (parameters.containsKey("hreflang")) {
+			link = link.withHreflang(parameters.get("hreflang"));
+		}
+
+		if (parameters.containsKey("media")) {
+			link = link.withMedia(parameters.get("media"));
+		}
+
+		if (parameters.containsKey("title")) {
+			link = link.withTitle(parameters.get("title"));
+		}
+
+		if (parameters.containsKey("type")) {
+			link = link.withType(parameters.get("type"));
+		}
+
+		if (parameters.containsKey("deprecation")) {
+			link = link.withDeprecation(parameters.get("deprecation"));
+		}
+
+		if (parameters.containsKey("profile")) {
+			link = link.withProfile(parameters.get("profile"));
+		}
+
+		return link;
+	}
+
+	/**
+	 * Reads all {@code ;name=value} parameters starting at the given index into the given {@link Map}. Names are lower
+	 * cased, parameters without a value are registered with an empty one.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param index the index to start reading at.
+	 * @param parameters must not be {@literal null}.
+	 * @return the index right after the last parameter read.
+	 */
+	private static int parseParameters(String source, int index, Map<String, String> parameters) {
+
+		int length = source.length();
+
+		while (true) {
+
+			int current = skipWhitespace(source, index);
+
+			if (current >= length || source.charAt(current) != ';') {
+				return current;
+			}
+
+			current = skipWhitespace(source, current + 1);
+
+			int nameEnd = skipToken(source, current);
+
+			if (nameEnd == current) {
+				return current;
+			}
+
+			String name = source.substring(current, nameEnd).toLowerCase(Locale.US);
+			String value = "";
+
+			current = skipWhitespace(source, nameEnd);
+
+			if (current < length && source.charAt(current) == '=') {
+
+				current = skipWhitespace(source, current + 1);
+
+				if (current < length && source.charAt(current) == '"') {
+
+					StringBuilder builder = new StringBuilder();
+					current = readQuotedString(source, current, builder);
+
+					// Unterminated quoted string, drop the parameter
+					if (current == -1) {
+						return length;
+					}
+
+					value = builder.toString();
+
+				} else {
+
+					int valueEnd = skipToken(source, current);
+					value = source.substring(current, valueEnd);
+					current = valueEnd;
+				}
+			}
+
+			parameters.putIfAbsent(name, value);
+			index = current;
+		}
+	}
+
+	/**
+	 * Reads the quoted string starting with the double quote at the given index into the given {@link StringBuilder},
+	 * unescaping quoted pairs.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param index the index of the opening double quote.
+	 * @param builder must not be {@literal null}.
+	 * @return the index right after the closing double quote or {@literal -1} if the quoted string is not terminated.
+	 */
+	private static int readQuotedString(String source, int index, StringBuilder builder) {
+
+		for (int i = index + 1; i < source.length(); i++) {
+
+			char c = source.charAt(i);
+
+			if (c == '"') {
+				return i + 1;
+			}
+
+			if (c == '\\') {
+
+				if (++i == source.length()) {
+					return -1;
+				}
+
+				c = source.charAt(i);
+			}
+
+			builder.append(c);
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns the index right after the next comma separating link elements, skipping over quoted strings.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param index the index to start at.
+	 * @return
+	 */
+	private static int skipToNextElement(String source, int index) {
+
+		for (int i = index; i < source.length(); i++) {
+
+			char c = source.charAt(i);
+
+			if (c == ',') {
+				return i + 1;
+			}
+
+			if (c == '"') {
+
+				int end = readQuotedString(source, i, new StringBuilder());
+
+				if (end == -1) {
+					return source.length();
+				}
+
+				i = end - 1;
+			}
+		}
+
+		return source.length();
+	}
+
+	private static int skipWhitespace(String source, int index) {
+
+		while (index < source.length() && isWhitespace(source.charAt(index))) {
+			index++;
+		}
+
+		return index;
+	}
+
+	private static int skipToken(String source, int index) {
+
+		while (index < source.length() && isTokenCharacter(source.charAt(index))) {
+			index++;
+		}
+
+		return index;
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+	}
+
+	private static boolean isTokenCharacter(char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || TOKEN_CHARACTERS.indexOf(c) != -1;
+	}
+}
@@ -15,16 +15,14 @@
  */
 package org.springframework.hateoas;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
@@ -35,8 +33,6 @@ import org.springframework.util.StringUtils;
  */
 public class Links implements Iterable<Link> {
 
-	private static final Pattern LINK_HEADER_PATTERN = Pattern.compile("(<[^>]*>(;\\s*\\w+=\"[^\"]*\")+)");
-
 	static final Links NO_LINKS = new Links(Collections.emptyList());
 
 	private final List<Link> links;
@@ -104,19 +100,7 @@ public class Links implements Iterable<Link> {
 			return NO_LINKS;
 		}
 
-		Matcher matcher = LINK_HEADER_PATTERN.matcher(source);
-		List<Link> links = new ArrayList<>();
-
-		while (matcher.find()) {
-
-			Link link = Link.valueOf(matcher.group());
-
-			if (link != null) {
-				links.add(link);
-			}
-		}
-
-		return new Links(links);
+		return new Links(LinkHeaderParser.parseLinks(source));
 	}
 
 	/**
@@ -134,7 +118,38 @@ public class Links implements Iterable<Link> {
 	 */
 	@Override
 	public String toString() {
-		return StringUtils.collectionToCommaDelimitedString(links);
+
+		int length = links.size();
+
+		for (Link link : links) {
+			length += link.estimateLength();
+		}
+
+		return appendTo(new StringBuilder(length)).toString();
+	}
+
+	/**
+	 * Appends the RFC-5988 compatible, comma separated {@link String} representation of all {@link Link}s to the given
+	 * {@link StringBuilder}.
+	 *
+	 * @param builder must not be {@literal null}.
+	 * @return the given {@link StringBuilder}.
+	 * @see #toString()
+	 */
+	public StringBuilder appendTo(StringBuilder builder) {
+
+		Assert.notNull(builder, "StringBuilder must not be null!");
+
+		for (int i = 0; i < links.size(); i++) {
+
+			if (i > 0) {
+				builder.append(',');
+			}
+
+			links.get(i).appendTo(builder);
+		}
+
+		return builder;
 	}
 
 	/* 
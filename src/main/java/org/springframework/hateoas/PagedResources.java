@@ -18,6 +18,8 @@ package org.springframework.hateoas;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.util.Assert;
@@ -67,6 +69,20 @@ public class PagedResources<T> extends Resources<T> {
 		this.metadata = metadata;
 	}
 
+	/**
+	 * Creates a new {@link PagedResources} from the given content {@link PageMetadata} and {@link Link}s, using the given
+	 * {@link List} as is unless requested otherwise.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param metadata
+	 * @param links must not be {@literal null}.
+	 * @param copy whether to copy the given content.
+	 */
+	PagedResources(List<T> content, PageMetadata metadata, Iterable<Link> links, boolean copy) {
+		super(content, links, copy);
+		this.metadata = metadata;
+	}
+
 	/**
 	 * Returns the pagination metadata.
 	 * 
@@ -84,17 +100,8 @@ public class PagedResources<T> extends Resources<T> {
 	 * @param metadata
 	 * @return
 	 */
-	@SuppressWarnings("unchecked")
 	public static <T extends Resource<S>, S> PagedResources<T> wrap(Iterable<S> content, PageMetadata metadata) {
-
-		Assert.notNull(content, "Content must not be null!");
-		ArrayList<T> resources = new ArrayList<>();
-
-		for (S element : content) {
-			resources.add((T) new Resource<>(element));
-		}
-
-		return new PagedResources<>(resources, metadata);
+		return new PagedResources<>(Resources.wrapElements(content), metadata, Collections.emptyList(), false);
 	}
 
 	/**
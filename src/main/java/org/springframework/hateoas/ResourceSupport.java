@@ -15,11 +15,15 @@
  */
 package org.springframework.hateoas;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.RandomAccess;
 
 import org.springframework.util.Assert;
 
@@ -35,10 +39,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  */
 public class ResourceSupport implements Identifiable<Link> {
 
-	private final List<Link> links;
+	private final IndexedLinks links;
 
 	public ResourceSupport() {
-		this.links = new ArrayList<>();
+		this.links = new IndexedLinks();
 	}
 
 	/**
@@ -128,10 +132,7 @@ public class ResourceSupport implements Identifiable<Link> {
 	 * @return the link with the given rel or {@link Optional#empty()} if none found.
 	 */
 	public Optional<Link> getLink(String rel) {
-
-		return links.stream() //
-				.filter(link -> link.hasRel(rel)) //
-				.findFirst();
+		return links.getFirst(rel);
 	}
 
 	/**
@@ -153,10 +154,7 @@ public class ResourceSupport implements Identifiable<Link> {
 	 * @return the links in a {@link List}
 	 */
 	public List<Link> getLinks(String rel) {
-
-		return links.stream() //
-				.filter(link -> link.hasRel(rel)) //
-				.collect(Collectors.toList());
+		return links.getAll(rel);
 	}
 
 	/* 
@@ -196,4 +194,159 @@ public class ResourceSupport implements Identifiable<Link> {
 	public int hashCode() {
 		return this.links.hashCode();
 	}
+
+	/**
+	 * {@link List} of {@link Link}s that additionally indexes them by relation once it exceeds a small number of
+	 * elements. All modifications, including the ones made through {@link ResourceSupport#getLinks()}, its
+	 * {@link #subList(int, int) sub lists}, {@link #listIterator() iterators}, {@link #replaceAll} and {@link #sort}, end
+	 * up in {@link #set(int, Link)}, {@link #add(int, Link)} or {@link #remove(int)}, which drop the index. It's rebuilt
+	 * on the next lookup and published as a whole, so that lookups on an otherwise unmodified instance can be issued from
+	 * multiple threads.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class IndexedLinks extends AbstractList<Link> implements RandomAccess {
+
+		private static final int INDEX_THRESHOLD = 8;
+
+		private final List<Link> links = new ArrayList<>();
+		private volatile Map<String, List<Link>> index;
+
+		/**
+		 * Returns the first {@link Link} with the given relation.
+		 *
+		 * @param rel must not be {@literal null} or empty unless the list is empty.
+		 * @return
+		 */
+		Optional<Link> getFirst(String rel) {
+
+			if (size() <= INDEX_THRESHOLD) {
+
+				for (Link link : links) {
+					if (link.hasRel(rel)) {
+						return Optional.of(link);
+					}
+				}
+
+				return Optional.empty();
+			}
+
+			List<Link> links = getIndexed(rel);
+
+			return links.isEmpty() ? Optional.empty() : Optional.of(links.get(0));
+		}
+
+		/**
+		 * Returns all {@link Link}s with the given relation in the order they were added.
+		 *
+		 * @param rel must not be {@literal null} or empty unless the list is empty.
+		 * @return a new, mutable {@link List}.
+		 */
+		List<Link> getAll(String rel) {
+
+			if (size() <= INDEX_THRESHOLD) {
+
+				List<Link> result = new ArrayList<>();
+
+				for (Link link : links) {
+					if (link.hasRel(rel)) {
+						result.add(link);
+					}
+				}
+
+				return result;
+			}
+
+			return new ArrayList<>(getIndexed(rel));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#get(int)
+		 */
+		@Override
+		public Link get(int index) {
+			return links.get(index);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#size()
+		 */
+		@Override
+		public int size() {
+			return links.size();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#set(int, java.lang.Object)
+		 */
+		@Override
+		public Link set(int index, Link element) {
+
+			Link previous = links.set(index, element);
+			this.index = null;
+
+			return previous;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#add(int, java.lang.Object)
+		 */
+		@Override
+		public void add(int index, Link element) {
+
+			links.add(index, element);
+			this.modCount++;
+			this.index = null;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#remove(int)
+		 */
+		@Override
+		public Link remove(int index) {
+
+			Link removed = links.remove(index);
+			this.modCount++;
+			this.index = null;
+
+			return removed;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#clear()
+		 */
+		@Override
+		public void clear() {
+
+			links.clear();
+			this.modCount++;
+			this.index = null;
+		}
+
+		private List<Link> getIndexed(String rel) {
+
+			Assert.hasText(rel, "Link relation must not be null or empty!");
+
+			Map<String, List<Link>> index = this.index;
+
+			if (index == null) {
+
+				index = new HashMap<>();
+
+				for (Link link : links) {
+					index.computeIfAbsent(link.getRel(), it -> new ArrayList<>(1)).add(link);
+				}
+
+				this.index = index;
+			}
+
+			return index.getOrDefault(rel, Collections.emptyList());
+		}
+	}
 }
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import org.springframework.util.Assert;
 
@@ -59,14 +60,22 @@ public class Resources<T> extends ResourceSupport implements Iterable<T> {
 	 * @param links the links to be added to the {@link Resources}.
 	 */
 	public Resources(Iterable<T> content, Iterable<Link> links) {
+		this(copy(content), links, false);
+	}
 
-		Assert.notNull(content, "Content must not be null!");
+	/**
+	 * Creates a {@link Resources} instance with the given content and {@link Link}s. Unless requested, the given
+	 * {@link List} is used as is, so callers must not expose it to anyone else.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 * @param copy whether to copy the given content.
+	 */
+	Resources(List<T> content, Iterable<Link> links, boolean copy) {
 
-		this.content = new ArrayList<>();
+		Assert.notNull(content, "Content must not be null!");
 
-		for (T element : content) {
-			this.content.add(element);
-		}
+		this.content = copy ? copy(content) : content;
 		this.add(links);
 	}
 
@@ -76,17 +85,55 @@ public class Resources<T> extends ResourceSupport implements Iterable<T> {
 	 * @param content must not be {@literal null}.
 	 * @return
 	 */
-	@SuppressWarnings("unchecked")
 	public static <T extends Resource<S>, S> Resources<T> wrap(Iterable<S> content) {
 
+		return new Resources<>(wrapElements(content), Collections.emptyList(), false);
+	}
+
+	/**
+	 * Wraps all elements of the given {@link Iterable} into {@link Resource} instances.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	static <T extends Resource<S>, S> List<T> wrapElements(Iterable<S> content) {
+
 		Assert.notNull(content, "Content must not be null!");
-		ArrayList<T> resources = new ArrayList<>();
+
+		List<T> resources = content instanceof Collection //
+				? new ArrayList<>(((Collection<S>) content).size()) //
+				: new ArrayList<>();
 
 		for (S element : content) {
 			resources.add((T) new Resource<>(element));
 		}
 
-		return new Resources<>(resources);
+		return resources;
+	}
+
+	/**
+	 * Copies the given {@link Iterable} into a new {@link List}, using a bulk copy for {@link Collection}s.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> List<T> copy(Iterable<T> content) {
+
+		Assert.notNull(content, "Content must not be null!");
+
+		if (content instanceof Collection) {
+			return new ArrayList<>((Collection<T>) content);
+		}
+
+		List<T> result = new ArrayList<>();
+
+		for (T element : content) {
+			result.add(element);
+		}
+
+		return result;
 	}
 
 	/**
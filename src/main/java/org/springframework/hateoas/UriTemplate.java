@@ -22,8 +22,6 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -32,7 +30,6 @@ import org.springframework.hateoas.TemplateVariable.VariableType;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.UriComponents;
-import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * Custom URI template to support qualified URI template variables.
@@ -48,7 +45,11 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	private static final long serialVersionUID = -1007874653930162262L;
 
 	private final TemplateVariables variables;
-	private String baseUri;
+	private final String baseUri;
+
+	private transient CompiledUriTemplate compiled;
+	private transient TemplateVariables optionalVariables;
+	private transient String toString;
 
 	/**
 	 * Creates a new {@link UriTemplate} using the given template string.
@@ -92,6 +93,25 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 		this.baseUri = template.substring(0, baseUriEndIndex);
 	}
 
+	/**
+	 * Returns the {@link UriTemplate} for the given template string, reusing a previously parsed instance from the shared
+	 * {@link UriTemplateCache} if available. Plain URIs not containing any template variables are not cached as they're
+	 * cheap to parse and usually unique.
+	 * 
+	 * @param template must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 * @see UriTemplateCache#getSharedInstance()
+	 * @since 1.0
+	 */
+	public static UriTemplate of(String template) {
+
+		Assert.hasText(template, "Template must not be null or empty!");
+
+		return template.indexOf('{') == -1 //
+				? new UriTemplate(template) //
+				: UriTemplateCache.getSharedInstance().get(template);
+	}
+
 	/**
 	 * Creates a new {@link UriTemplate} from the given base URI and {@link TemplateVariables}.
 	 * 
@@ -118,7 +138,7 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 			return this;
 		}
 
-		UriComponents components = UriComponentsBuilder.fromUriString(baseUri).build();
+		UriComponents components = getCompiled().getComponents();
 		List<TemplateVariable> result = new ArrayList<>();
 
 		for (TemplateVariable variable : variables) {
@@ -200,17 +220,19 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 			return URI.create(baseUri);
 		}
 
-		org.springframework.web.util.UriTemplate baseTemplate = new org.springframework.web.util.UriTemplate(baseUri);
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUri(baseTemplate.expand(parameters));
-		Iterator<Object> iterator = Arrays.asList(parameters).iterator();
+		Iterator<Object> values = Arrays.asList(parameters).iterator();
+		Iterator<Object> optionalValues = Arrays.asList(parameters).iterator();
 
-		for (TemplateVariable variable : getOptionalVariables()) {
+		return getCompiled().expand(name -> {
 
-			Object value = iterator.hasNext() ? iterator.next() : null;
-			appendToBuilder(builder, variable, value);
-		}
+			if (!values.hasNext()) {
+				throw new IllegalArgumentException(
+						String.format("Not enough variable values available to expand '%s'", name));
+			}
 
-		return builder.build().toUri();
+			return values.next();
+
+		}, getOptionalVariables().asList(), variable -> optionalValues.hasNext() ? optionalValues.next() : null);
 	}
 
 	/**
@@ -227,14 +249,15 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
 		Assert.notNull(parameters, "Parameters must not be null!");
 
-		org.springframework.web.util.UriTemplate baseTemplate = new org.springframework.web.util.UriTemplate(baseUri);
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUri(baseTemplate.expand(parameters));
+		return getCompiled().expand(name -> {
 
-		for (TemplateVariable variable : getOptionalVariables()) {
-			appendToBuilder(builder, variable, parameters.get(variable.getName()));
-		}
+			if (!parameters.containsKey(name)) {
+				throw new IllegalArgumentException(String.format("Map has no value for '%s'", name));
+			}
+
+			return parameters.get(name);
 
-		return builder.build().toUri();
+		}, getOptionalVariables().asList(), variable -> parameters.get(variable.getName()));
 	}
 
 	/* 
@@ -253,76 +276,30 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	@Override
 	public String toString() {
 
-		UriComponents components = UriComponentsBuilder.fromUriString(baseUri).build();
-		boolean hasQueryParameters = !components.getQueryParams().isEmpty();
+		if (toString == null) {
+			this.toString = baseUri + getOptionalVariables().toString(getCompiled().hasQueryParameters());
+		}
 
-		return baseUri + getOptionalVariables().toString(hasQueryParameters);
+		return toString;
 	}
 
 	private TemplateVariables getOptionalVariables() {
 
-		return variables.asList().stream() //
-				.filter(variable -> !variable.isRequired()) //
-				.collect(Collectors.collectingAndThen(Collectors.toList(), TemplateVariables::new));
-	}
-
-	/**
-	 * Appends the value for the given {@link TemplateVariable} to the given {@link UriComponentsBuilder}.
-	 * 
-	 * @param builder must not be {@literal null}.
-	 * @param variable must not be {@literal null}.
-	 * @param value can be {@literal null}.
-	 */
-	private static void appendToBuilder(UriComponentsBuilder builder, TemplateVariable variable, Object value) {
-
-		if (value == null) {
-
-			if (variable.isRequired()) {
-				throw new IllegalArgumentException(
-						String.format("Template variable %s is required but no value was given!", variable.getName()));
-			}
-
-			return;
+		if (optionalVariables == null) {
+			this.optionalVariables = variables.asList().stream() //
+					.filter(variable -> !variable.isRequired()) //
+					.collect(Collectors.collectingAndThen(Collectors.toList(), TemplateVariables::new));
 		}
 
-		switch (variable.getType()) {
-			case COMPOSITE_PARAM:
-				appendComposite(builder, variable.getName(), value);
-				break;
-			case REQUEST_PARAM:
-			case REQUEST_PARAM_CONTINUED:
-				builder.queryParam(variable.getName(), value);
-				break;
-			case PATH_VARIABLE:
-			case SEGMENT:
-				builder.pathSegment(value.toString());
-				break;
-			case FRAGMENT:
-				builder.fragment(value.toString());
-				break;
-		}
+		return optionalVariables;
 	}
 
-	/**
-	 * Expand what could be a single value, a {@link List}, or a {@link Map}.
-	 *
-	 * @param builder
-	 * @param name
-	 * @param value
-	 * @see https://tools.ietf.org/html/rfc6570#section-2.4.2
-	 */
-	private static void appendComposite(UriComponentsBuilder builder, String name, Object value) {
+	private CompiledUriTemplate getCompiled() {
 
-		if (value instanceof Iterable) {
-			for (Object valuePart : (Iterable<?>) value) {
-				builder.queryParam(name, valuePart);
-			}
-		} else if (value instanceof Map) {
-			for (Entry<Object, Object> queryParam : (Set<Entry<Object, Object>>) ((Map) value).entrySet()) {
-				builder.queryParam(queryParam.getKey().toString(), queryParam.getValue());
-			}
-		} else {
-			builder.queryParam(name, value);
+		if (compiled == null) {
+			this.compiled = CompiledUriTemplate.of(baseUri);
 		}
+
+		return compiled;
 	}
 }
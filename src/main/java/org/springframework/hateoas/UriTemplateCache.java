@@ -0,0 +1,234 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import lombok.Value;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Size-bounded cache of {@link UriTemplate} instances keyed by their template {@link String} using a
+ * least-recently-used eviction policy. As {@link UriTemplate}s are immutable, the cached instances can be shared
+ * freely. A maximum size of {@literal 0} disables caching entirely.
+ * <p>
+ * The cache is split into segments guarded by individual locks so that concurrent lookups of different templates
+ * don't contend. Each segment evicts its own least recently used entries. Templates are parsed outside of any lock.
+ * <p>
+ * The size of the shared instance used by {@link UriTemplate#of(String)} can be configured using the
+ * {@value #MAXIMUM_SIZE_PROPERTY} system property.
+ *
+ * @author Oliver Gierke
+ * @since 1.0
+ * @see UriTemplate#of(String)
+ */
+public final class UriTemplateCache {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 256;
+	public static final String MAXIMUM_SIZE_PROPERTY = "spring.hateoas.uri-template-cache.size";
+
+	private static final int MAXIMUM_SEGMENTS = 16;
+	private static final int MINIMUM_SEGMENT_SIZE = 16;
+
+	private static final UriTemplateCache SHARED_INSTANCE = new UriTemplateCache(
+			Integer.getInteger(MAXIMUM_SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE));
+
+	private final int maximumSize;
+	private final Segment[] segments;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Creates a new {@link UriTemplateCache} with the given maximum size.
+	 *
+	 * @param maximumSize must not be negative, {@literal 0} disables caching.
+	 */
+	UriTemplateCache(int maximumSize) {
+
+		Assert.isTrue(maximumSize >= 0, "Maximum size must not be negative!");
+
+		this.maximumSize = maximumSize;
+
+		// Use a power of two number of segments, each holding at least MINIMUM_SEGMENT_SIZE entries
+		int segmentCount = Integer
+				.highestOneBit(Math.max(1, Math.min(MAXIMUM_SEGMENTS, maximumSize / MINIMUM_SEGMENT_SIZE)));
+		int segmentSize = (maximumSize + segmentCount - 1) / segmentCount;
+
+		this.segments = new Segment[segmentCount];
+
+		for (int i = 0; i < segmentCount; i++) {
+			segments[i] = new Segment(segmentSize);
+		}
+	}
+
+	/**
+	 * Returns the {@link UriTemplateCache} used by {@link UriTemplate#of(String)}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public static UriTemplateCache getSharedInstance() {
+		return SHARED_INSTANCE;
+	}
+
+	/**
+	 * Returns the maximum number of {@link UriTemplate}s cached.
+	 *
+	 * @return
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Returns the {@link UriTemplate} for the given template {@link String}, either from the cache or by parsing it.
+	 *
+	 * @param template must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	public UriTemplate get(String template) {
+
+		Assert.hasText(template, "Template must not be null or empty!");
+
+		if (maximumSize == 0) {
+			misses.increment();
+			return new UriTemplate(template);
+		}
+
+		Segment segment = getSegmentFor(template);
+		UriTemplate cached = segment.get(template);
+
+		if (cached != null) {
+			hits.increment();
+			return cached;
+		}
+
+		misses.increment();
+
+		return segment.putIfAbsent(template, new UriTemplate(template));
+	}
+
+	/**
+	 * Removes all cached {@link UriTemplate}s. Doesn't reset the {@link Statistics}.
+	 */
+	public void clear() {
+
+		for (Segment segment : segments) {
+			segment.clear();
+		}
+	}
+
+	/**
+	 * Returns a snapshot of the {@link Statistics} of the cache.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Statistics getStatistics() {
+
+		int size = 0;
+
+		for (Segment segment : segments) {
+			size += segment.size();
+		}
+
+		return new Statistics(hits.sum(), misses.sum(), evictions.sum(), size);
+	}
+
+	private Segment getSegmentFor(String template) {
+
+		int hash = template.hashCode();
+
+		return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+	}
+
+	/**
+	 * An access-ordered, size-bounded map guarded by its own monitor.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private final class Segment {
+
+		private final Map<String, UriTemplate> templates;
+
+		Segment(int capacity) {
+
+			this.templates = new LinkedHashMap<String, UriTemplate>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				/*
+				 * (non-Javadoc)
+				 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+				 */
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, UriTemplate> eldest) {
+
+					boolean evict = size() > capacity;
+
+					if (evict) {
+						evictions.increment();
+					}
+
+					return evict;
+				}
+			};
+		}
+
+		synchronized UriTemplate get(String template) {
+			return templates.get(template);
+		}
+
+		/**
+		 * Adds the given {@link UriTemplate} unless another thread has already done so in the meantime.
+		 *
+		 * @param template must not be {@literal null}.
+		 * @param uriTemplate must not be {@literal null}.
+		 * @return the {@link UriTemplate} cached for the given template.
+		 */
+		synchronized UriTemplate putIfAbsent(String template, UriTemplate uriTemplate) {
+
+			UriTemplate existing = templates.putIfAbsent(template, uriTemplate);
+
+			return existing == null ? uriTemplate : existing;
+		}
+
+		synchronized void clear() {
+			templates.clear();
+		}
+
+		synchronized int size() {
+			return templates.size();
+		}
+	}
+
+	/**
+	 * Hit, miss and eviction statistics of a {@link UriTemplateCache}.
+	 *
+	 * @author Oliver Gierke
+	 */
+	@Value
+	public static class Statistics {
+
+		long hitCount;
+		long missCount;
+		long evictionCount;
+		int size;
+	}
+}
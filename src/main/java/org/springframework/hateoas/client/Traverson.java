@@ -426,13 +426,13 @@ public class Traverson {
 		private UriStringAndHeaders traverseToFinalUrl() {
 
 			UriStringAndHeaders uriAndHeaders = getAndFindLinkWithRel(baseUri.toString(), this.rels.iterator(), HttpHeaders.EMPTY);
-			return new UriStringAndHeaders(new UriTemplate(uriAndHeaders.getUri()).toString(), uriAndHeaders.getHttpHeaders());
+			return new UriStringAndHeaders(UriTemplate.of(uriAndHeaders.getUri()).toString(), uriAndHeaders.getHttpHeaders());
 		}
 
 		private URIAndHeaders traverseToExpandedFinalUrl() {
 
 			UriStringAndHeaders uriAndHeaders = getAndFindLinkWithRel(baseUri.toString(), this.rels.iterator(), HttpHeaders.EMPTY);
-			return new URIAndHeaders(new UriTemplate(uriAndHeaders.getUri()).expand(this.templateParameters), uriAndHeaders.getHttpHeaders());
+			return new URIAndHeaders(UriTemplate.of(uriAndHeaders.getUri()).expand(this.templateParameters), uriAndHeaders.getHttpHeaders());
 		}
 
 		private UriStringAndHeaders getAndFindLinkWithRel(String uri, Iterator<Hop> rels, HttpHeaders extraHeaders) {
@@ -442,7 +442,7 @@ public class Traverson {
 			}
 
 			HttpEntity<?> request = prepareRequest(mergeHeaders(this.headers, extraHeaders));
-			UriTemplate template = new UriTemplate(uri);
+			UriTemplate template = UriTemplate.of(uri);
 
 			ResponseEntity<String> responseEntity = operations.exchange(template.expand(), GET, request, String.class);
 			MediaType contentType = responseEntity.getHeaders().getContentType();
@@ -26,10 +26,12 @@ import org.springframework.hateoas.LinkDiscoverer;
 import org.springframework.hateoas.LinkDiscoverers;
 import org.springframework.hateoas.RelProvider;
 import org.springframework.hateoas.core.AnnotationRelProvider;
+import org.springframework.hateoas.core.CachingMessageSourceAccessor;
 import org.springframework.hateoas.core.DefaultRelProvider;
 import org.springframework.hateoas.core.DelegatingRelProvider;
 import org.springframework.hateoas.core.EvoInflectorRelProvider;
 import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.plugin.core.config.EnablePluginRegistries;
 import org.springframework.plugin.core.support.PluginRegistryFactoryBean;
@@ -56,10 +58,13 @@ class HateoasConfiguration {
 
 		try {
 
-			ReloadableResourceBundleMessageSource messageSource = new ReloadableResourceBundleMessageSource();
+			CacheClearingMessageSource messageSource = new CacheClearingMessageSource();
 			messageSource.setBasename("classpath:rest-messages");
 
-			return new MessageSourceAccessor(messageSource);
+			CachingMessageSourceAccessor accessor = new CachingMessageSourceAccessor(messageSource);
+			messageSource.setAccessor(accessor);
+
+			return accessor;
 
 		} catch (Exception o_O) {
 			throw new BeanCreationException("resourceDescriptionMessageSourceAccessor", "", o_O);
@@ -110,4 +115,54 @@ class HateoasConfiguration {
 	LinkDiscoverers linkDiscoverers(PluginRegistry<LinkDiscoverer, MediaType> discoverers) {
 		return new LinkDiscoverers(discoverers);
 	}
+
+	/**
+	 * {@link ReloadableResourceBundleMessageSource} to clear the cache of the {@link CachingMessageSourceAccessor} using
+	 * it whenever properties files are reloaded.
+	 *
+	 * @author Oliver Gierke
+	 */
+	static class CacheClearingMessageSource extends ReloadableResourceBundleMessageSource {
+
+		private @Nullable CachingMessageSourceAccessor accessor;
+
+		void setAccessor(CachingMessageSourceAccessor accessor) {
+			this.accessor = accessor;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.context.support.ReloadableResourceBundleMessageSource#refreshProperties(java.lang.String, org.springframework.context.support.ReloadableResourceBundleMessageSource.PropertiesHolder)
+		 */
+		@Override
+		protected PropertiesHolder refreshProperties(String filename, @Nullable PropertiesHolder propHolder) {
+
+			PropertiesHolder result = super.refreshProperties(filename, propHolder);
+
+			// Initial loads of a file can't invalidate messages already cached
+			if (propHolder != null && result != propHolder) {
+				clearAccessorCache();
+			}
+
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.context.support.ReloadableResourceBundleMessageSource#clearCache()
+		 */
+		@Override
+		public void clearCache() {
+
+			super.clearCache();
+			clearAccessorCache();
+		}
+
+		private void clearAccessorCache() {
+
+			if (accessor != null) {
+				accessor.clearCache();
+			}
+		}
+	}
 }
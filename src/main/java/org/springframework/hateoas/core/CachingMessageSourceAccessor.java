@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.MessageSource;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link MessageSourceAccessor} that allows to look up optional messages without the need to handle
+ * {@link NoSuchMessageException}s. Resolved messages as well as absent ones are cached per {@link Locale}, so that
+ * repeated lookups boil down to a map lookup. As the {@link Locale} is usually derived from the client's request, only
+ * the messages of the {@value #MAXIMUM_LOCALES} most recently used {@link Locale}s are kept. Call
+ * {@link #clearCache()} in case the underlying {@link MessageSource} reloads its messages.
+ *
+ * @author Oliver Gierke
+ * @since 1.0
+ */
+public class CachingMessageSourceAccessor extends MessageSourceAccessor {
+
+	static final int MAXIMUM_LOCALES = 16;
+
+	private final Map<Locale, Map<String, Optional<String>>> cache = Collections
+			.synchronizedMap(new LinkedHashMap<Locale, Map<String, Optional<String>>>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				/*
+				 * (non-Javadoc)
+				 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+				 */
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Locale, Map<String, Optional<String>>> eldest) {
+					return size() > MAXIMUM_LOCALES;
+				}
+			});
+
+	/**
+	 * Creates a new {@link CachingMessageSourceAccessor} for the given {@link MessageSource}.
+	 *
+	 * @param messageSource must not be {@literal null}.
+	 */
+	public CachingMessageSourceAccessor(MessageSource messageSource) {
+		super(messageSource);
+	}
+
+	/**
+	 * Returns the message for the given code in the current default {@link Locale} or {@literal null} if no message can
+	 * be found for it.
+	 *
+	 * @param code must not be {@literal null}.
+	 * @return
+	 */
+	@Nullable
+	public String findMessage(String code) {
+
+		Locale locale = getDefaultLocale();
+
+		return cache.computeIfAbsent(locale, it -> new ConcurrentHashMap<>()) //
+				.computeIfAbsent(code, it -> lookupMessage(it, locale)) //
+				.orElse(null);
+	}
+
+	/**
+	 * Removes all cached messages.
+	 */
+	public void clearCache() {
+		cache.clear();
+	}
+
+	private Optional<String> lookupMessage(String code, Locale locale) {
+
+		try {
+			return Optional.of(getMessage(code, locale));
+		} catch (NoSuchMessageException o_O) {
+			return Optional.empty();
+		}
+	}
+}
@@ -15,16 +15,25 @@
  */
 package org.springframework.hateoas.core;
 
+import lombok.Value;
+
+import java.util.Map;
+
 import org.springframework.hateoas.RelProvider;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
+ * {@link RelProvider} delegating to the first {@link RelProvider} supporting the given type. The relations resolved
+ * for a type are cached.
+ * 
  * @author Oliver Gierke
  */
 public class DelegatingRelProvider implements RelProvider {
 
 	private final PluginRegistry<RelProvider, Class<?>> providers;
+	private final Map<Class<?>, Relations> relations = new ConcurrentReferenceHashMap<>();
 
 	public DelegatingRelProvider(PluginRegistry<RelProvider, Class<?>> providers) {
 
@@ -38,7 +47,7 @@ public class DelegatingRelProvider implements RelProvider {
 	 */
 	@Override
 	public String getItemResourceRelFor(Class<?> type) {
-		return providers.getRequiredPluginFor(type).getItemResourceRelFor(type);
+		return getRelationsFor(type).getItemResourceRel();
 	}
 
 	/*
@@ -47,7 +56,7 @@ public class DelegatingRelProvider implements RelProvider {
 	 */
 	@Override
 	public String getCollectionResourceRelFor(java.lang.Class<?> type) {
-		return providers.getRequiredPluginFor(type).getCollectionResourceRelFor(type);
+		return getRelationsFor(type).getCollectionResourceRel();
 	}
 
 	/*
@@ -58,4 +67,26 @@ public class DelegatingRelProvider implements RelProvider {
 	public boolean supports(java.lang.Class<?> delimiter) {
 		return providers.hasPluginFor(delimiter);
 	}
+
+	private Relations getRelationsFor(Class<?> type) {
+
+		return relations.computeIfAbsent(type, it -> {
+
+			RelProvider provider = providers.getRequiredPluginFor(it);
+
+			return new Relations(provider.getItemResourceRelFor(it), provider.getCollectionResourceRelFor(it));
+		});
+	}
+
+	/**
+	 * The item and collection resource relations resolved for a type.
+	 *
+	 * @author Oliver Gierke
+	 */
+	@Value
+	private static class Relations {
+
+		String itemResourceRel;
+		String collectionResourceRel;
+	}
 }
@@ -15,11 +15,14 @@
  */
 package org.springframework.hateoas.core;
 
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -56,7 +59,8 @@ public class DummyInvocationUtils {
 
 	/**
 	 * Method interceptor that records the last method invocation and creates a proxy for the return value that exposes
-	 * the method invocation.
+	 * the method invocation. Instances used by an {@link InvocationRecorder} are reused for subsequent invocations, which
+	 * is why they keep the proxy they're attached to as well as the proxies created for return types.
 	 * 
 	 * @author Oliver Gierke
 	 */
@@ -67,7 +71,9 @@ public class DummyInvocationUtils {
 		private static final Method GET_OBJECT_PARAMETERS;
 
 		private final Class<?> targetType;
-		private final Object[] objectParameters;
+		private final Map<Class<?>, Object> returnValueProxies = new HashMap<>();
+		private Object proxy;
+		private Object[] objectParameters;
 		private MethodInvocation invocation;
 
 		static {
@@ -91,6 +97,27 @@ public class DummyInvocationUtils {
 			this.objectParameters = parameters.clone();
 		}
 
+		/**
+		 * Resets the interceptor to record a new invocation carrying the given parameters forward that might be needed to
+		 * populate the class level mapping.
+		 * 
+		 * @param parameters must not be {@literal null}.
+		 * @return the proxy of the target type the interceptor is attached to.
+		 */
+		Object reset(Object... parameters) {
+
+			Assert.notNull(parameters, "Parameters must not be null!");
+
+			this.objectParameters = parameters.length == 0 ? parameters : parameters.clone();
+			this.invocation = null;
+
+			if (proxy == null) {
+				this.proxy = getProxyWithInterceptor(targetType, this, targetType.getClassLoader());
+			}
+
+			return proxy;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.cglib.proxy.MethodInterceptor#intercept(java.lang.Object, java.lang.reflect.Method, java.lang.Object[], org.springframework.cglib.proxy.MethodProxy)
@@ -109,7 +136,10 @@ public class DummyInvocationUtils {
 			this.invocation = new SimpleMethodInvocation(targetType, method, args);
 
 			Class<?> returnType = method.getReturnType();
-			return returnType.cast(getProxyWithInterceptor(returnType, this, obj.getClass().getClassLoader()));
+			Object returnValueProxy = returnValueProxies.computeIfAbsent(returnType,
+					it -> getProxyWithInterceptor(it, this, obj.getClass().getClassLoader()));
+
+			return returnType.cast(returnValueProxy);
 		}
 
 		/* 
@@ -151,6 +181,7 @@ public class DummyInvocationUtils {
 	 * @param type must not be {@literal null}.
 	 * @param parameters parameters to extend template variables in the type level mapping.
 	 * @return
+	 * @see #recorder(Class)
 	 */
 	public static <T> T methodOn(Class<T> type, Object... parameters) {
 
@@ -160,6 +191,52 @@ public class DummyInvocationUtils {
 		return getProxyWithInterceptor(type, interceptor, type.getClassLoader());
 	}
 
+	/**
+	 * Returns a new {@link InvocationRecorder} for the given type that reuses a single proxy for all invocations
+	 * recorded through it. Use this when building a lot of links to the same controller in a row, e.g. for all elements
+	 * of a collection.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @return
+	 * @since 1.0
+	 * @see InvocationRecorder
+	 */
+	public static <T> InvocationRecorder<T> recorder(Class<T> type) {
+
+		Assert.notNull(type, "Given type must not be null!");
+
+		return new InvocationRecorder<>(type);
+	}
+
+	/**
+	 * Returns a {@link LastInvocationAware} for an invocation of the given {@link Method} on the given type with the given
+	 * arguments without creating any proxies. The result can be used wherever the return value of a method invoked on a
+	 * proxy created by {@link #methodOn(Class, Object...)} is expected.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param arguments the arguments the method is invoked with, must not be {@literal null}.
+	 * @param parameters parameters to extend template variables in the type level mapping.
+	 * @return
+	 * @since 1.0
+	 */
+	public static LastInvocationAware invocationOf(Class<?> type, Method method, Object[] arguments,
+			Object... parameters) {
+
+		Assert.notNull(type, "Given type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+		Assert.notNull(arguments, "Arguments must not be null!");
+		Assert.notNull(parameters, "Parameters must not be null!");
+		Assert.isTrue(method.getDeclaringClass().isAssignableFrom(type),
+				() -> String.format("Method %s is not declared on type %s!", method, type.getName()));
+		Assert.isTrue(method.getParameterCount() == arguments.length,
+				() -> String.format("Method %s expects %s arguments but got %s!", method, method.getParameterCount(),
+						arguments.length));
+
+		return new SimpleLastInvocationAware(new SimpleMethodInvocation(type, method, arguments.clone()),
+				parameters.clone());
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> T getProxyWithInterceptor(Class<?> type, InvocationRecordingMethodInterceptor interceptor,
 			ClassLoader classLoader) {
@@ -212,6 +289,62 @@ public class DummyInvocationUtils {
 		});
 	}
 
+	/**
+	 * Records method invocations on a proxy of a given type that is created once and reset for every call to
+	 * {@link #methodOn(Object...)}. Unlike proxies obtained through {@link DummyInvocationUtils#methodOn(Class, Object...)},
+	 * the value returned from a method invocation is only valid until the next call to {@link #methodOn(Object...)}, so
+	 * it has to be handed into e.g. a link builder right away:
+	 *
+	 * <pre>
+	 * InvocationRecorder&lt;PersonController&gt; recorder = DummyInvocationUtils.recorder(PersonController.class);
+	 *
+	 * for (Person person : people) {
+	 * 	links.add(linkTo(recorder.methodOn().show(person.getId())).withSelfRel());
+	 * }
+	 * </pre>
+	 *
+	 * Instances are not thread-safe and are supposed to be used by the code that created them only.
+	 *
+	 * @author Oliver Gierke
+	 * @since 1.0
+	 */
+	public static class InvocationRecorder<T> {
+
+		private final InvocationRecordingMethodInterceptor interceptor;
+
+		private InvocationRecorder(Class<T> type) {
+			this.interceptor = new InvocationRecordingMethodInterceptor(type);
+		}
+
+		/**
+		 * Returns the proxy to record the next method invocation on, carrying the given parameters forward to expand
+		 * template variables in the type level mapping. Invalidates the values returned from previous invocations.
+		 *
+		 * @param parameters must not be {@literal null}.
+		 * @return
+		 */
+		@SuppressWarnings("unchecked")
+		public T methodOn(Object... parameters) {
+			return (T) interceptor.reset(parameters);
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static class SimpleLastInvocationAware implements LastInvocationAware {
+
+		private final @Getter MethodInvocation lastInvocation;
+		private final Object[] objectParameters;
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware#getObjectParameters()
+		 */
+		@Override
+		public Iterator<Object> getObjectParameters() {
+			return Arrays.asList(objectParameters).iterator();
+		}
+	}
+
 	@Value
 	static class SimpleMethodInvocation implements MethodInvocation {
 
@@ -19,10 +19,13 @@ import static org.springframework.hateoas.core.EncodingUtils.*;
 import static org.springframework.web.util.UriComponentsBuilder.*;
 
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 
 import java.net.URI;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,7 +40,9 @@ import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /**
- * Base class to implement {@link LinkBuilder}s based on a Spring MVC {@link UriComponentsBuilder}.
+ * Base class to implement {@link LinkBuilder}s based on a Spring MVC {@link UriComponentsBuilder}. Paths appended via
+ * {@link #slash(Object)} are recorded and only rendered into the final {@link UriComponents} once the URI is actually
+ * needed.
  * 
  * @author Ricardo Gladwell
  * @author Oliver Gierke
@@ -47,7 +52,9 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkBuilder {
 
-	private final UriComponents uriComponents;
+	private final UriComponents base;
+	private final Extension extension;
+	private UriComponents uriComponents;
 
 	private @Getter final List<Affordance> affordances;
 
@@ -59,7 +66,10 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	public LinkBuilderSupport(UriComponentsBuilder builder) {
 
 		Assert.notNull(builder, "UriComponentsBuilder must not be null!");
-		this.uriComponents = builder.build();
+
+		this.base = builder.build();
+		this.extension = null;
+		this.uriComponents = base;
 		this.affordances = new ArrayList<>();
 	}
 
@@ -71,10 +81,35 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	public LinkBuilderSupport(UriComponents uriComponents) {
 
 		Assert.notNull(uriComponents, "UriComponents must not be null!");
+
+		this.base = uriComponents;
+		this.extension = null;
 		this.uriComponents = uriComponents;
 		this.affordances = new ArrayList<>();
 	}
 
+	/**
+	 * Creates a new {@link LinkBuilderSupport} pointing to the URI of the given source {@link LinkBuilderSupport} with
+	 * the path, query and fragment of the given {@link UriComponents} appended. The resulting URI is only rendered once
+	 * it's needed.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param components must not be {@literal null}.
+	 * @param encoded whether the given {@link UriComponents} are already encoded.
+	 * @since 1.0
+	 * @see #createNewInstance(UriComponents, boolean)
+	 */
+	protected LinkBuilderSupport(LinkBuilderSupport<?> source, UriComponents components, boolean encoded) {
+
+		Assert.notNull(source, "Source LinkBuilderSupport must not be null!");
+		Assert.notNull(components, "UriComponents must not be null!");
+
+		this.base = source.base;
+		this.extension = new Extension(source.extension, components, encoded);
+		this.uriComponents = null;
+		this.affordances = new ArrayList<>();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.LinkBuilder#slash(java.lang.Object)
@@ -107,21 +142,7 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	}
 
 	protected T slash(UriComponents components, boolean encoded) {
-
-		String uriString = uriComponents.toUriString();
-		UriComponentsBuilder builder = uriString.isEmpty() ? fromUri(uriComponents.toUri()) : fromUriString(uriString);
-
-		for (String pathSegment : components.getPathSegments()) {
-			builder.pathSegment(encoded ? pathSegment : encodePath(pathSegment));
-		}
-
-		String fragment = components.getFragment();
-
-		if (StringUtils.hasText(fragment)) {
-			builder.fragment(encoded ? fragment : encodeFragment(fragment));
-		}
-
-		return createNewInstance(builder.query(components.getQuery()));
+		return createNewInstance(components, encoded);
 	}
 
 	/*
@@ -142,7 +163,7 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 * @see org.springframework.hateoas.LinkBuilder#toUri()
 	 */
 	public URI toUri() {
-		return uriComponents.encode().toUri().normalize();
+		return getUriComponents().encode().toUri().normalize();
 	}
 
 	public T addAffordances(Collection<Affordance> affordances) {
@@ -173,7 +194,7 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 */
 	@Override
 	public String toString() {
-		return uriComponents.toUriString();
+		return getUriComponents().toUriString();
 	}
 
 	/**
@@ -190,4 +211,90 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 * @return
 	 */
 	protected abstract T createNewInstance(UriComponentsBuilder builder);
+
+	/**
+	 * Creates a new instance of the sub-class pointing to the current URI with the given {@link UriComponents} appended.
+	 * Sub-classes should override this to hand the arguments to
+	 * {@link #LinkBuilderSupport(LinkBuilderSupport, UriComponents, boolean)} so that the URI is not rendered for every
+	 * intermediate step. Defaults to {@link #createNewInstance(UriComponentsBuilder)}.
+	 *
+	 * @param components will never be {@literal null}.
+	 * @param encoded whether the given {@link UriComponents} are already encoded.
+	 * @return
+	 * @since 1.0
+	 */
+	protected T createNewInstance(UriComponents components, boolean encoded) {
+		return createNewInstance(toBuilder(new Extension(extension, components, encoded)));
+	}
+
+	/**
+	 * Returns the {@link UriComponents} the builder currently points to, rendering the appended paths if necessary.
+	 *
+	 * @return
+	 */
+	private UriComponents getUriComponents() {
+
+		UriComponents uriComponents = this.uriComponents;
+
+		if (uriComponents == null) {
+
+			uriComponents = toBuilder(extension).build();
+			this.uriComponents = uriComponents;
+		}
+
+		return uriComponents;
+	}
+
+	/**
+	 * Renders the base {@link UriComponents} and all given {@link Extension}s into a {@link UriComponentsBuilder}.
+	 *
+	 * @param extension can be {@literal null}.
+	 * @return
+	 */
+	private UriComponentsBuilder toBuilder(Extension extension) {
+
+		String uriString = base.toUriString();
+		UriComponentsBuilder builder = uriString.isEmpty() ? fromUri(base.toUri()) : fromUriString(uriString);
+
+		Deque<Extension> extensions = new ArrayDeque<>();
+
+		for (Extension current = extension; current != null; current = current.previous) {
+			extensions.push(current);
+		}
+
+		for (Extension current : extensions) {
+			current.applyTo(builder);
+		}
+
+		return builder;
+	}
+
+	/**
+	 * An immutable element of the chain of {@link UriComponents} appended to the base URI via
+	 * {@link LinkBuilderSupport#slash(Object)}.
+	 *
+	 * @author Oliver Gierke
+	 */
+	@RequiredArgsConstructor
+	private static class Extension {
+
+		private final Extension previous;
+		private final UriComponents components;
+		private final boolean encoded;
+
+		void applyTo(UriComponentsBuilder builder) {
+
+			for (String pathSegment : components.getPathSegments()) {
+				builder.pathSegment(encoded ? pathSegment : encodePath(pathSegment));
+			}
+
+			String fragment = components.getFragment();
+
+			if (StringUtils.hasText(fragment)) {
+				builder.fragment(encoded ? fragment : encodeFragment(fragment));
+			}
+
+			builder.query(components.getQuery());
+		}
+	}
 }
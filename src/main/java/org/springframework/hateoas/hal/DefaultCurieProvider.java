@@ -26,8 +26,13 @@ import org.springframework.hateoas.IanaLinkRelation;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.UriTemplate;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
@@ -40,8 +45,15 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
  */
 public class DefaultCurieProvider implements CurieProvider {
 
+	private static final String APPLICATION_URI_ATTRIBUTE = DefaultCurieProvider.class.getName() + ".APPLICATION_URI";
+
 	private final Map<String, UriTemplate> curies;
 	private final String defaultCurie;
+	private final Map<String, String> namespacedRels = new ConcurrentReferenceHashMap<>();
+
+	private final boolean customCurieHrefs, customCurieInformation;
+	private final Map<String, Collection<? extends Object>> curiesByApplicationUri = new ConcurrentReferenceHashMap<>();
+	private final @Nullable Collection<? extends Object> absoluteCuries;
 
 	/**
 	 * Creates a new {@link DefaultCurieProvider} for the given name and {@link UriTemplate}. The curie will be used to
@@ -90,6 +102,15 @@ public class DefaultCurieProvider implements CurieProvider {
 		this.defaultCurie = StringUtils.hasText(defaultCurieName) ? defaultCurieName
 				: curies.size() == 1 ? curies.keySet().iterator().next() : null;
 		this.curies = Collections.unmodifiableMap(curies);
+
+		this.customCurieHrefs = ReflectionUtils
+				.findMethod(getClass(), "getCurieHref", String.class, UriTemplate.class)
+				.getDeclaringClass() != DefaultCurieProvider.class;
+		this.customCurieInformation = ReflectionUtils.findMethod(getClass(), "getCurieInformation", Links.class)
+				.getDeclaringClass() != DefaultCurieProvider.class;
+
+		boolean relativeCuriesPresent = curies.values().stream().anyMatch(it -> !isAbsolute(it));
+		this.absoluteCuries = customCurieHrefs || relativeCuriesPresent ? null : createCuries(null);
 	}
 
 	/* 
@@ -99,9 +120,28 @@ public class DefaultCurieProvider implements CurieProvider {
 	@Override
 	public Collection<? extends Object> getCurieInformation(Links links) {
 
-		return curies.entrySet().stream() //
-				.map(it -> new Curie(it.getKey(), getCurieHref(it.getKey(), it.getValue()))) //
-				.collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableCollection));
+		if (absoluteCuries != null) {
+			return absoluteCuries;
+		}
+
+		if (customCurieHrefs) {
+
+			return curies.entrySet().stream() //
+					.map(it -> new Curie(it.getKey(), getCurieHref(it.getKey(), it.getValue()))) //
+					.collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableCollection));
+		}
+
+		return curiesByApplicationUri.computeIfAbsent(getApplicationUri(), this::createCuries);
+	}
+
+	/**
+	 * Returns whether the {@link Links} handed into {@link #getCurieInformation(Links)} are actually considered, which is
+	 * only the case for subclasses overriding the method.
+	 *
+	 * @return
+	 */
+	boolean usesLinksForCurieInformation() {
+		return customCurieInformation;
 	}
 
 	/* 
@@ -120,8 +160,15 @@ public class DefaultCurieProvider implements CurieProvider {
 	@Override
 	public String getNamespacedRelFor(String rel) {
 
-		boolean prefixingNeeded = defaultCurie != null && !IanaLinkRelation.isIanaRel(rel) && !rel.contains(":");
-		return prefixingNeeded ? String.format("%s:%s", defaultCurie, rel) : rel;
+		if (defaultCurie == null) {
+			return rel;
+		}
+
+		return namespacedRels.computeIfAbsent(rel, it -> {
+
+			boolean prefixingNeeded = !IanaLinkRelation.isIanaRel(it) && !it.contains(":");
+			return prefixingNeeded ? defaultCurie + ":" + it : it;
+		});
 	}
 
 	/**
@@ -133,13 +180,49 @@ public class DefaultCurieProvider implements CurieProvider {
 	 * @return the {@link String} to be used as href in the {@link Curie} to be created, must not be {@literal null}.
 	 */
 	protected String getCurieHref(String name, UriTemplate template) {
+		return isAbsolute(template) ? template.toString() : getApplicationUri().concat(template.toString());
+	}
+
+	/**
+	 * Creates the {@link Curie}s for all configured templates, prefixing relative ones with the given application URI.
+	 *
+	 * @param applicationUri can be {@literal null} if all templates are absolute ones.
+	 * @return
+	 */
+	private Collection<? extends Object> createCuries(@Nullable String applicationUri) {
+
+		return curies.entrySet().stream() //
+				.map(it -> new Curie(it.getKey(), isAbsolute(it.getValue()) //
+						? it.getValue().toString() //
+						: applicationUri.concat(it.getValue().toString()))) //
+				.collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableCollection));
+	}
 
-		if (template.toString().startsWith("http")) {
-			return template.toString();
+	/**
+	 * Returns the URI of the current application (servlet mapping), resolved only once per request.
+	 *
+	 * @return
+	 */
+	private static String getApplicationUri() {
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		Object cached = attributes == null ? null : attributes.getAttribute(APPLICATION_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+		if (cached != null) {
+			return cached.toString();
 		}
 
 		String applicationUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().expand().toString();
-		return applicationUri.concat(template.toString());
+
+		if (attributes != null) {
+			attributes.setAttribute(APPLICATION_URI_ATTRIBUTE, applicationUri, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		return applicationUri;
+	}
+
+	private static boolean isAbsolute(UriTemplate template) {
+		return template.toString().startsWith("http");
 	}
 
 	/**
@@ -19,8 +19,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.hateoas.RelProvider;
 import org.springframework.hateoas.Resource;
@@ -31,7 +33,9 @@ import org.springframework.util.StringUtils;
 
 /**
  * Builder class that allows collecting objects under the relation types defined for the objects but moving from the
- * single resource relation to the collection one, once more than one object of the same type is added.
+ * single resource relation to the collection one, once more than one object of the same type is added. Relations are
+ * only resolved once per type and objects of the same type are collected in a single list, so that adding the elements
+ * of large, homogeneous collections scales linearly.
  * 
  * @author Oliver Gierke
  * @author Dietrich Schulten
@@ -42,6 +46,9 @@ class HalEmbeddedBuilder {
 	private static final String INVALID_EMBEDDED_WRAPPER = "Embedded wrapper %s returned null for both the static rel and the rel target type! Make sure one of the two returns a non-null value!";
 
 	private final Map<String, Object> embeddeds = new HashMap<>();
+	private final Set<Object> ownedLists = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Map<Class<?>, String> itemRels = new HashMap<>();
+	private final Map<Class<?>, String> collectionRels = new HashMap<>();
 	private final RelProvider provider;
 	private final CurieProvider curieProvider;
 	private final EmbeddedWrappers wrappers;
@@ -90,14 +97,34 @@ class HalEmbeddedBuilder {
 			return;
 		}
 
+		// Append to the list created by a previous invocation
+		if (collectionOrItemRel.equals(collectionRel) && ownedLists.contains(currentValue)) {
+
+			appendTo(currentValue, value);
+			return;
+		}
+
 		List<Object> list = new ArrayList<>();
 		list.addAll(asCollection(currentValue));
-		list.addAll(asCollection(wrapper.getValue()));
+		list.addAll(asCollection(value));
+
+		ownedLists.remove(currentValue);
+		ownedLists.add(list);
 
 		embeddeds.remove(collectionOrItemRel);
 		embeddeds.put(collectionRel, list);
 	}
 
+	@SuppressWarnings("unchecked")
+	private void appendTo(Object list, Object value) {
+
+		if (value instanceof Collection) {
+			((List<Object>) list).addAll((Collection<Object>) value);
+		} else if (value != null) {
+			((List<Object>) list).add(value);
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private Collection<Object> asCollection(Object source) {
 		return source instanceof Collection ? (Collection<Object>) source : source == null ? Collections.emptySet()
@@ -122,6 +149,19 @@ class HalEmbeddedBuilder {
 			throw new IllegalStateException(String.format(INVALID_EMBEDDED_WRAPPER, wrapper));
 		}
 
+		Map<Class<?>, String> cache = forCollection ? collectionRels : itemRels;
+		String rel = cache.get(type);
+
+		if (rel == null) {
+			rel = resolveRelFor(type, forCollection);
+			cache.put(type, rel);
+		}
+
+		return rel;
+	}
+
+	private String resolveRelFor(Class<?> type, boolean forCollection) {
+
 		String rel = forCollection ? provider.getCollectionResourceRelFor(type) : provider.getItemResourceRelFor(type);
 
 		if (curieProvider != null) {
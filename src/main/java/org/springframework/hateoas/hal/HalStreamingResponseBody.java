@@ -0,0 +1,269 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.hal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources.PageMetadata;
+import org.springframework.hateoas.RelProvider;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.core.EmbeddedWrapper;
+import org.springframework.hateoas.core.EmbeddedWrappers;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * {@link StreamingResponseBody} to render a HAL collection document whose elements are produced one by one, e.g. from a
+ * repository cursor. The elements are turned into representations by the given assembler function and written to the
+ * response's {@link OutputStream} right away, so that the collection never needs to be held in memory entirely. The
+ * rendered document matches the one of a {@link org.springframework.hateoas.Resources} or
+ * {@link org.springframework.hateoas.PagedResources} containing the same representations, i.e. {@code _embedded}
+ * followed by {@code _links} and {@code page}.
+ * <p>
+ * As the elements cannot be grouped by their relation without holding them in memory, all of them are rendered using
+ * the collection relation of the first one, as resolved by the {@link RelProvider} and {@link CurieProvider}.
+ * <p>
+ * The {@link ObjectMapper} handed into the body has to be set up for HAL, i.e. have the {@link Jackson2HalModule} and a
+ * {@link Jackson2HalModule.HalHandlerInstantiator} registered. The response's content type is expected to be set by
+ * the controller:
+ *
+ * <pre>
+ * return ResponseEntity.ok() //
+ * 		.contentType(MediaTypes.HAL_JSON_UTF8) //
+ * 		.body(new HalStreamingResponseBody&lt;&gt;(mapper, relProvider, curieProvider, repository::streamAll, assembler::toResource) //
+ * 				.withLinks(linkTo(methodOn(Controller.class).export()).withSelfRel()));
+ * </pre>
+ *
+ * @author Oliver Gierke
+ * @since 1.0
+ */
+public class HalStreamingResponseBody<S> implements StreamingResponseBody {
+
+	private static final String DEFAULT_REL = "content";
+
+	private final ObjectMapper mapper;
+	private final RelProvider relProvider;
+	private final @Nullable CurieProvider curieProvider;
+	private final Supplier<? extends Stream<? extends S>> elements;
+	private final Function<? super S, ?> assembler;
+	private final Collection<Link> links;
+	private final @Nullable PageMetadata metadata;
+
+	/**
+	 * Creates a new {@link HalStreamingResponseBody} for the given {@link ObjectMapper}, {@link RelProvider},
+	 * {@link CurieProvider}, source of elements and assembler to turn them into representations.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param relProvider must not be {@literal null}.
+	 * @param curieProvider can be {@literal null}.
+	 * @param elements must not be {@literal null}. The {@link Stream} returned will be closed once all of its elements
+	 *          have been written.
+	 * @param assembler must not be {@literal null}.
+	 */
+	public HalStreamingResponseBody(ObjectMapper mapper, RelProvider relProvider, @Nullable CurieProvider curieProvider,
+			Supplier<? extends Stream<? extends S>> elements, Function<? super S, ?> assembler) {
+		this(mapper, relProvider, curieProvider, elements, assembler, Collections.emptyList(), null);
+	}
+
+	private HalStreamingResponseBody(ObjectMapper mapper, RelProvider relProvider, @Nullable CurieProvider curieProvider,
+			Supplier<? extends Stream<? extends S>> elements, Function<? super S, ?> assembler, Collection<Link> links,
+			@Nullable PageMetadata metadata) {
+
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+		Assert.notNull(relProvider, "RelProvider must not be null!");
+		Assert.notNull(elements, "Elements must not be null!");
+		Assert.notNull(assembler, "Assembler must not be null!");
+
+		this.mapper = mapper;
+		this.relProvider = relProvider;
+		this.curieProvider = curieProvider;
+		this.elements = elements;
+		this.assembler = assembler;
+		this.links = links;
+		this.metadata = metadata;
+	}
+
+	/**
+	 * Returns a new {@link HalStreamingResponseBody} rendering the given {@link Link}s for the collection.
+	 *
+	 * @param links must not be {@literal null}.
+	 * @return
+	 */
+	public HalStreamingResponseBody<S> withLinks(Link... links) {
+
+		Assert.notNull(links, "Links must not be null!");
+
+		return withLinks(Arrays.asList(links));
+	}
+
+	/**
+	 * Returns a new {@link HalStreamingResponseBody} rendering the given {@link Link}s for the collection.
+	 *
+	 * @param links must not be {@literal null}.
+	 * @return
+	 */
+	public HalStreamingResponseBody<S> withLinks(Collection<Link> links) {
+
+		Assert.notNull(links, "Links must not be null!");
+
+		return new HalStreamingResponseBody<>(mapper, relProvider, curieProvider, elements, assembler, links, metadata);
+	}
+
+	/**
+	 * Returns a new {@link HalStreamingResponseBody} rendering the given {@link PageMetadata}.
+	 *
+	 * @param metadata can be {@literal null}.
+	 * @return
+	 */
+	public HalStreamingResponseBody<S> withPageMetadata(@Nullable PageMetadata metadata) {
+		return new HalStreamingResponseBody<>(mapper, relProvider, curieProvider, elements, assembler, links, metadata);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody#writeTo(java.io.OutputStream)
+	 */
+	@Override
+	public void writeTo(OutputStream outputStream) throws IOException {
+
+		Assert.notNull(outputStream, "OutputStream must not be null!");
+
+		ObjectWriter writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		EmbeddedWrappers wrappers = new EmbeddedWrappers(true);
+		String rel = null;
+
+		try (JsonGenerator generator = mapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+			// Don't let a failing element source result in a seemingly complete document
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+			generator.writeStartObject();
+
+			try (Stream<? extends S> stream = elements.get()) {
+
+				Iterator<? extends S> iterator = stream.iterator();
+
+				while (iterator.hasNext()) {
+
+					EmbeddedWrapper wrapper = wrappers.wrap(assembler.apply(iterator.next()));
+
+					if (wrapper == null) {
+						continue;
+					}
+
+					if (rel == null) {
+
+						rel = getRelFor(wrapper);
+
+						generator.writeObjectFieldStart("_embedded");
+						generator.writeArrayFieldStart(rel);
+					}
+
+					Object value = wrapper.getValue();
+
+					if (value instanceof Collection) {
+						for (Object element : (Collection<?>) value) {
+							writer.writeValue(generator, element);
+						}
+					} else {
+						writer.writeValue(generator, value);
+					}
+				}
+			}
+
+			if (rel != null) {
+				generator.writeEndArray();
+				generator.writeEndObject();
+			}
+
+			writeLinks(generator, rel != null && curieProvider != null && rel.contains(":"));
+
+			if (metadata != null) {
+				generator.writeFieldName("page");
+				writer.writeValue(generator, metadata);
+			}
+
+			generator.writeEndObject();
+		}
+	}
+
+	/**
+	 * Renders the {@link Link}s through the {@link ObjectMapper} so that they're subject to the same rel and curie
+	 * handling as the ones of a {@link ResourceSupport} rendered in one go.
+	 *
+	 * @param generator must not be {@literal null}.
+	 * @param curiedEmbedPresent whether the elements have been rendered using a namespaced relation.
+	 * @throws IOException
+	 */
+	private void writeLinks(JsonGenerator generator, boolean curiedEmbedPresent) throws IOException {
+
+		ResourceSupport resource = new ResourceSupport();
+		resource.add(links);
+
+		if (curiedEmbedPresent) {
+			resource.add(Jackson2HalModule.CURIES_REQUIRED_DUE_TO_EMBEDS);
+		}
+
+		JsonNode rendered = mapper.valueToTree(resource).get("_links");
+
+		if (rendered != null) {
+			generator.writeFieldName("_links");
+			mapper.writeTree(generator, rendered);
+		}
+	}
+
+	private String getRelFor(EmbeddedWrapper wrapper) {
+
+		String rel = wrapper.getRel();
+
+		if (StringUtils.hasText(rel)) {
+			return rel;
+		}
+
+		Class<?> type = wrapper.getRelTargetType();
+
+		if (type == null) {
+			throw new IllegalStateException(String.format("Could not determine relation for embedded value %s!", wrapper));
+		}
+
+		rel = relProvider.getCollectionResourceRelFor(type);
+
+		if (rel != null && curieProvider != null) {
+			rel = curieProvider.getNamespacedRelFor(rel);
+		}
+
+		return rel == null ? DEFAULT_REL : rel;
+	}
+}
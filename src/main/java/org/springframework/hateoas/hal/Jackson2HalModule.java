@@ -21,8 +21,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +36,7 @@ import org.springframework.hateoas.RelProvider;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.core.CachingMessageSourceAccessor;
 import org.springframework.hateoas.hal.HalConfiguration.RenderSingleLinks;
 import org.springframework.util.Assert;
 
@@ -60,7 +61,7 @@ import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.ContainerSerializer;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
-import com.fasterxml.jackson.databind.ser.std.MapSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
 import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
@@ -74,7 +75,7 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
 public class Jackson2HalModule extends SimpleModule {
 
 	private static final long serialVersionUID = 7806951456457932384L;
-	private static final Link CURIES_REQUIRED_DUE_TO_EMBEDS = new Link("__rel__", "¯\\_(ツ)_/¯");
+	static final Link CURIES_REQUIRED_DUE_TO_EMBEDS = new Link("__rel__", "¯\\_(ツ)_/¯");
 
 	public Jackson2HalModule() {
 
@@ -107,13 +108,16 @@ public class Jackson2HalModule extends SimpleModule {
 
 		private static final long serialVersionUID = -1844788111509966406L;
 
-		private static final String RELATION_MESSAGE_TEMPLATE = "_links.%s.title";
+		private static final Links NO_LINKS = new Links(Collections.emptyList());
+		private static final String RELATION_MESSAGE_PREFIX = "_links.";
+		private static final String RELATION_MESSAGE_SUFFIX = ".title";
 
 		private final BeanProperty property;
 		private final CurieProvider curieProvider;
 		private final EmbeddedMapper mapper;
 		private final MessageSourceAccessor accessor;
 		private final HalConfiguration halConfiguration;
+		private PropertySerializerMap serializers;
 
 		public HalLinkListSerializer(CurieProvider curieProvider, EmbeddedMapper mapper, MessageSourceAccessor accessor,
 									 HalConfiguration halConfiguration) {
@@ -130,6 +134,7 @@ public class Jackson2HalModule extends SimpleModule {
 			this.mapper = mapper;
 			this.accessor = accessor;
 			this.halConfiguration = halConfiguration;
+			this.serializers = PropertySerializerMap.emptyForProperties();
 		}
 
 		/**
@@ -147,10 +152,6 @@ public class Jackson2HalModule extends SimpleModule {
 		public void serialize(List<Link> value, JsonGenerator jgen, SerializerProvider provider)
 			throws IOException {
 
-			// sort links according to their relation
-			Map<String, List<Object>> sortedLinks = new LinkedHashMap<>();
-			List<Link> links = new ArrayList<>();
-
 			boolean prefixingRequired = curieProvider != null;
 			boolean curiedLinkPresent = false;
 			boolean skipCuries = !jgen.getOutputContext().getParent().inRoot();
@@ -158,12 +159,23 @@ public class Jackson2HalModule extends SimpleModule {
 			Object currentValue = jgen.getCurrentValue();
 
 			if (currentValue instanceof Resources) {
-				if (mapper.hasCuriedEmbed((Resources<?>) currentValue)) {
+
+				Map<String, Object> embeddeds = mapper.map(currentValue, (Resources<?>) currentValue, provider);
+
+				if (mapper.hasCuriedEmbed(embeddeds)) {
 					curiedLinkPresent = true;
 				}
 			}
 
-			for (Link link : value) {
+			// group links according to their relation, keeping the order of the first occurrence of a relation
+			int size = value.size();
+			String[] rels = new String[size];
+			int[] next = new int[size];
+			Map<String, Integer> lastIndexes = new HashMap<>(size * 2);
+
+			for (int i = 0; i < size; i++) {
+
+				Link link = value.get(i);
 
 				if (link.equals(CURIES_REQUIRED_DUE_TO_EMBEDS)) {
 					continue;
@@ -175,30 +187,162 @@ public class Jackson2HalModule extends SimpleModule {
 					curiedLinkPresent = true;
 				}
 
-				sortedLinks //
-					.computeIfAbsent(rel, key -> new ArrayList<>())//
-					.add(toHalLink(link));
+				rels[i] = rel;
+				next[i] = -1;
+
+				Integer last = lastIndexes.put(rel, i);
 
-				links.add(link);
+				if (last != null) {
+					next[last] = i;
+				}
+			}
+
+			jgen.writeStartObject(value);
+
+			for (int i = 0; i < size; i++) {
+
+				// only the first link of a relation starts a group
+				if (rels[i] == null || lastIndexes.get(rels[i]) == null) {
+					continue;
+				}
+
+				int count = 0;
+
+				for (int j = i; j != -1; j = next[j]) {
+					count++;
+				}
+
+				jgen.writeFieldName(rels[i]);
+
+				boolean single = count == 1 && halConfiguration.getRenderSingleLinks() == RenderSingleLinks.AS_SINGLE;
+
+				if (!single) {
+					jgen.writeStartArray();
+				}
+
+				for (int j = i; j != -1; j = next[j]) {
+					writeLink(value.get(j), jgen, provider);
+				}
+
+				if (!single) {
+					jgen.writeEndArray();
+				}
+
+				lastIndexes.remove(rels[i]);
 			}
 
 			if (!skipCuries && prefixingRequired && curiedLinkPresent) {
 
-				ArrayList<Object> curies = new ArrayList<>();
-				curies.add(curieProvider.getCurieInformation(new Links(links)));
+				jgen.writeFieldName("curies");
+
+				boolean single = halConfiguration.getRenderSingleLinks() == RenderSingleLinks.AS_SINGLE;
+
+				if (!single) {
+					jgen.writeStartArray();
+				}
+
+				Collection<? extends Object> curies = getCurieInformation(value, rels);
+
+				if (curies == null) {
+					provider.defaultSerializeNull(jgen);
+				} else {
+					getOrLookupSerializerFor(curies.getClass(), provider).serialize(curies, jgen, provider);
+				}
+
+				if (!single) {
+					jgen.writeEndArray();
+				}
+			}
+
+			jgen.writeEndObject();
+		}
+
+		/**
+		 * Returns the curie information for the given links. Skips collecting the links to be handed to the
+		 * {@link CurieProvider} in case it's a {@link DefaultCurieProvider} that doesn't consider them anyway.
+		 *
+		 * @param value all links to be rendered, must not be {@literal null}.
+		 * @param rels the relations of the links to be rendered, {@literal null} for the ones to be skipped.
+		 * @return
+		 */
+		private Collection<? extends Object> getCurieInformation(List<Link> value, String[] rels) {
+
+			if (curieProvider instanceof DefaultCurieProvider
+					&& !((DefaultCurieProvider) curieProvider).usesLinksForCurieInformation()) {
+				return curieProvider.getCurieInformation(NO_LINKS);
+			}
+
+			List<Link> links = new ArrayList<>(value.size());
+
+			for (int i = 0; i < rels.length; i++) {
+				if (rels[i] != null) {
+					links.add(value.get(i));
+				}
+			}
+
+			return curieProvider.getCurieInformation(new Links(links));
+		}
+
+		/**
+		 * Writes the given {@link Link} as HAL link object. Plain {@link Link} instances are rendered field by field,
+		 * subclasses are handed to the {@link SerializerProvider} to not lose any additional properties.
+		 *
+		 * @param link must not be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws IOException
+		 */
+		private void writeLink(Link link, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+
+			HalLink halLink = toHalLink(link);
+
+			if (link.getClass() != Link.class) {
+				getOrLookupSerializerFor(HalLink.class, provider).serialize(halLink, jgen, provider);
+				return;
+			}
+
+			jgen.writeStartObject(link);
 
-				sortedLinks.put("curies", curies);
+			writeIfPresent("href", link.getHref(), jgen);
+			writeIfPresent("hreflang", link.getHreflang(), jgen);
+			writeIfPresent("title", link.getTitle(), jgen);
+			writeIfPresent("type", link.getType(), jgen);
+			writeIfPresent("deprecation", link.getDeprecation(), jgen);
+			writeIfPresent("profile", link.getProfile(), jgen);
+
+			if (link.isTemplated()) {
+				jgen.writeBooleanField("templated", true);
 			}
 
-			TypeFactory typeFactory = provider.getConfig().getTypeFactory();
-			JavaType keyType = typeFactory.constructType(String.class);
-			JavaType valueType = typeFactory.constructCollectionType(ArrayList.class, Object.class);
-			JavaType mapType = typeFactory.constructMapType(HashMap.class, keyType, valueType);
+			writeIfPresent("title", halLink.getTitle(), jgen);
 
-			MapSerializer serializer = MapSerializer.construct(Collections.emptySet(), mapType, true, null,
-				provider.findKeySerializer(keyType, null), new OptionalListJackson2Serializer(property, halConfiguration), null);
+			jgen.writeEndObject();
+		}
 
-			serializer.serialize(sortedLinks, jgen, provider);
+		private static void writeIfPresent(String name, String value, JsonGenerator jgen) throws IOException {
+
+			if (value != null) {
+				jgen.writeStringField(name, value);
+			}
+		}
+
+		private JsonSerializer<Object> getOrLookupSerializerFor(Class<?> type, SerializerProvider provider)
+			throws JsonMappingException {
+
+			PropertySerializerMap map = serializers;
+			JsonSerializer<Object> serializer = map.serializerFor(type);
+
+			if (serializer != null) {
+				return serializer;
+			}
+
+			PropertySerializerMap.SerializerAndMapResult result = map.findAndAddSecondarySerializer(type, provider, property);
+
+			if (map != result.map) {
+				serializers = result.map;
+			}
+
+			return result.serializer;
 		}
 
 		/**
@@ -230,8 +374,18 @@ public class Jackson2HalModule extends SimpleModule {
 
 			Assert.hasText(localRel, "Local relation must not be null or empty!");
 
+			if (accessor == null) {
+				return null;
+			}
+
+			String code = RELATION_MESSAGE_PREFIX + localRel + RELATION_MESSAGE_SUFFIX;
+
+			if (accessor instanceof CachingMessageSourceAccessor) {
+				return ((CachingMessageSourceAccessor) accessor).findMessage(code);
+			}
+
 			try {
-				return accessor == null ? null : accessor.getMessage(String.format(RELATION_MESSAGE_TEMPLATE, localRel));
+				return accessor.getMessage(code);
 			} catch (NoSuchMessageException o_O) {
 				return null;
 			}
@@ -328,13 +482,15 @@ public class Jackson2HalModule extends SimpleModule {
 		public void serialize(Collection<?> value, JsonGenerator jgen, SerializerProvider provider)
 			throws IOException {
 
-			Map<String, Object> embeddeds = embeddedMapper.map(value);
-
 			Object currentValue = jgen.getCurrentValue();
 
+			Map<String, Object> embeddeds = currentValue instanceof Resources //
+					? embeddedMapper.map(currentValue, value, provider) //
+					: embeddedMapper.map(value);
+
 			if (currentValue instanceof ResourceSupport) {
 
-				if (embeddedMapper.hasCuriedEmbed(value)) {
+				if (embeddedMapper.hasCuriedEmbed(embeddeds)) {
 					((ResourceSupport) currentValue).add(CURIES_REQUIRED_DUE_TO_EMBEDS);
 				}
 			}
@@ -386,8 +542,8 @@ public class Jackson2HalModule extends SimpleModule {
 		private static final long serialVersionUID = 3700806118177419817L;
 
 		private final BeanProperty property;
-		private final Map<Class<?>, JsonSerializer<Object>> serializers;
 		private final HalConfiguration halConfiguration;
+		private PropertySerializerMap serializers;
 
 		/**
 		 * Creates a new {@link OptionalListJackson2Serializer} using the given {@link BeanProperty}.
@@ -399,8 +555,8 @@ public class Jackson2HalModule extends SimpleModule {
 			super(TypeFactory.defaultInstance().constructType(List.class));
 
 			this.property = property;
-			this.serializers = new HashMap<>();
 			this.halConfiguration = halConfiguration;
+			this.serializers = PropertySerializerMap.emptyForProperties();
 		}
 
 		/*
@@ -451,14 +607,20 @@ public class Jackson2HalModule extends SimpleModule {
 		private JsonSerializer<Object> getOrLookupSerializerFor(Class<?> type, SerializerProvider provider)
 			throws JsonMappingException {
 
-			JsonSerializer<Object> serializer = serializers.get(type);
+			PropertySerializerMap map = serializers;
+			JsonSerializer<Object> serializer = map.serializerFor(type);
 
-			if (serializer == null) {
-				serializer = provider.findValueSerializer(type, property);
-				serializers.put(type, serializer);
+			if (serializer != null) {
+				return serializer;
 			}
 
-			return serializer;
+			PropertySerializerMap.SerializerAndMapResult result = map.findAndAddSecondarySerializer(type, provider, property);
+
+			if (map != result.map) {
+				serializers = result.map;
+			}
+
+			return result.serializer;
 		}
 
 		/*
@@ -506,7 +668,7 @@ public class Jackson2HalModule extends SimpleModule {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
 			throws JsonMappingException {
-			return new OptionalListJackson2Serializer(property, halConfiguration);
+			return property == this.property ? this : new OptionalListJackson2Serializer(property, halConfiguration);
 		}
 	}
 
@@ -886,8 +1048,41 @@ public class Jackson2HalModule extends SimpleModule {
 		 * @return
 		 */
 		public boolean hasCuriedEmbed(Iterable<?> source) {
+			return hasCuriedEmbed(map(source));
+		}
+
+		/**
+		 * Maps the given source elements owned by the given object as embedded values. The result is kept for the
+		 * current serialization run so that subsequent invocations for the same owner don't map the elements again.
+		 *
+		 * @param owner must not be {@literal null}.
+		 * @param source must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @return
+		 */
+		Map<String, Object> map(Object owner, Iterable<?> source, SerializerProvider provider) {
+
+			@SuppressWarnings("unchecked")
+			Map<Object, Map<String, Object>> embeddeds = (Map<Object, Map<String, Object>>) provider
+					.getAttribute(this);
+
+			if (embeddeds == null) {
+				embeddeds = new IdentityHashMap<>();
+				provider.setAttribute(this, embeddeds);
+			}
+
+			return embeddeds.computeIfAbsent(owner, it -> map(source));
+		}
+
+		/**
+		 * Returns whether the given embedded values contain namespaced relations.
+		 *
+		 * @param embeddeds must not be {@literal null}.
+		 * @return
+		 */
+		boolean hasCuriedEmbed(Map<String, Object> embeddeds) {
 
-			return map(source).keySet().stream() //
+			return embeddeds.keySet().stream() //
 				.anyMatch(rel -> rel.contains(":"));
 		}
 	}
@@ -21,12 +21,18 @@ import lombok.RequiredArgsConstructor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 import org.springframework.core.MethodParameter;
-import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.hateoas.core.AnnotationAttribute;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
@@ -49,6 +55,7 @@ class AnnotatedParametersParameterAccessor {
 			16, ReferenceType.WEAK);
 
 	private final @NonNull AnnotationAttribute attribute;
+	private final Map<MethodParameter, ParameterMetadata> metadataCache = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Returns {@link BoundMethodParameter}s contained in the given {@link MethodInvocation}.
@@ -60,17 +67,42 @@ class AnnotatedParametersParameterAccessor {
 
 		Assert.notNull(invocation, "MethodInvocation must not be null!");
 
-		MethodParameters parameters = getOrCreateMethodParametersFor(invocation.getMethod());
-		Object[] arguments = invocation.getArguments();
-		List<BoundMethodParameter> result = new ArrayList<>();
+		return getBoundParameters(getOrCreateMethodParametersFor(invocation.getMethod()), invocation.getArguments());
+	}
 
-		for (MethodParameter parameter : parameters.getParametersWith(attribute.getAnnotationType())) {
+	/**
+	 * Returns {@link BoundMethodParameter}s for the given {@link MethodParameters} and argument values.
+	 * 
+	 * @param parameters must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 */
+	List<BoundMethodParameter> getBoundParameters(MethodParameters parameters, Object[] arguments) {
+		return getBoundParameters(getBindings(parameters), arguments);
+	}
 
-			Object value = arguments[parameter.getParameterIndex()];
-			Object verifiedValue = verifyParameterValue(parameter, value);
+	/**
+	 * Returns {@link BoundMethodParameter}s for the given precomputed {@link ParameterBinding}s and argument values.
+	 * 
+	 * @param bindings must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 * @see #getBindings(MethodParameters)
+	 */
+	List<BoundMethodParameter> getBoundParameters(List<ParameterBinding> bindings, Object[] arguments) {
+
+		Assert.notNull(bindings, "Bindings must not be null!");
+		Assert.notNull(arguments, "Arguments must not be null!");
+
+		List<BoundMethodParameter> result = new ArrayList<>(bindings.size());
+
+		for (ParameterBinding binding : bindings) {
+
+			Object value = arguments[binding.getIndex()];
+			Object verifiedValue = verifyParameterValue(binding.getParameter(), value);
 
 			if (verifiedValue != null) {
-				result.add(createParameter(parameter, verifiedValue, attribute));
+				result.add(new BoundMethodParameter(verifiedValue, binding.getMetadata()));
 			}
 		}
 
@@ -78,17 +110,35 @@ class AnnotatedParametersParameterAccessor {
 	}
 
 	/**
-	 * Create the {@link BoundMethodParameter} for the given {@link MethodParameter}, parameter value and
-	 * {@link AnnotationAttribute}.
+	 * Returns the {@link ParameterBinding}s for all {@link MethodParameter}s carrying the configured annotation. As they
+	 * don't depend on the actual argument values, they can be computed once per method.
 	 * 
-	 * @param parameter must not be {@literal null}.
-	 * @param value can be {@literal null}.
-	 * @param attribute must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	List<ParameterBinding> getBindings(MethodParameters parameters) {
+
+		Assert.notNull(parameters, "MethodParameters must not be null!");
+
+		List<MethodParameter> annotated = parameters.getParametersWith(attribute.getAnnotationType());
+		List<ParameterBinding> result = new ArrayList<>(annotated.size());
+
+		for (MethodParameter parameter : annotated) {
+			result.add(new ParameterBinding(parameter, getMetadata(parameter)));
+		}
+
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Returns whether the given {@link MethodParameter} is a required one. Defaults to {@literal true}. The result is
+	 * cached per {@link MethodParameter}, so implementations must only consider the parameter's declaration.
+	 * 
+	 * @param parameter will never be {@literal null}.
 	 * @return
 	 */
-	protected BoundMethodParameter createParameter(MethodParameter parameter, Object value,
-			AnnotationAttribute attribute) {
-		return new BoundMethodParameter(parameter, value, attribute);
+	protected boolean isRequired(MethodParameter parameter) {
+		return true;
 	}
 
 	/**
@@ -114,35 +164,90 @@ class AnnotatedParametersParameterAccessor {
 	}
 
 	/**
-	 * Represents a {@link MethodParameter} alongside the value it has been bound to.
+	 * Returns the {@link ParameterMetadata} for the given {@link MethodParameter}.
+	 * 
+	 * @param parameter must not be {@literal null}.
+	 * @return
+	 */
+	private ParameterMetadata getMetadata(MethodParameter parameter) {
+		return metadataCache.computeIfAbsent(parameter, it -> new ParameterMetadata(it, attribute, isRequired(it)));
+	}
+
+	/**
+	 * An annotated {@link MethodParameter} alongside its index and the {@link ParameterMetadata} needed to bind argument
+	 * values to it.
 	 * 
 	 * @author Oliver Gierke
 	 */
-	static class BoundMethodParameter {
+	static class ParameterBinding {
+
+		private final MethodParameter parameter;
+		private final int index;
+		private final ParameterMetadata metadata;
+
+		ParameterBinding(MethodParameter parameter, ParameterMetadata metadata) {
+
+			Assert.notNull(parameter, "MethodParameter must not be null!");
+			Assert.notNull(metadata, "ParameterMetadata must not be null!");
+
+			this.parameter = parameter;
+			this.index = parameter.getParameterIndex();
+			this.metadata = metadata;
+		}
+
+		MethodParameter getParameter() {
+			return parameter;
+		}
+
+		int getIndex() {
+			return index;
+		}
+
+		ParameterMetadata getMetadata() {
+			return metadata;
+		}
+	}
 
-		private static final ConversionService CONVERSION_SERVICE = new DefaultFormattingConversionService();
+	/**
+	 * Value independent information about a {@link MethodParameter} needed to bind values to it: the name of the
+	 * template variable, whether the parameter is required and how to convert values into {@link String}s.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	static class ParameterMetadata {
+
+		private static final LookupConversionService CONVERSION_SERVICE = new LookupConversionService();
 		private static final TypeDescriptor STRING_DESCRIPTOR = TypeDescriptor.valueOf(String.class);
+		private static final Set<Class<?>> SIMPLE_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class,
+				Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, UUID.class));
 
-		private final MethodParameter parameter;
-		private final Object value;
-		private final AnnotationAttribute attribute;
-		private final TypeDescriptor parameterTypeDescriptor;
+		private final String variableName;
+		private final boolean required;
+		private final TypeDescriptor typeDescriptor;
+		private final GenericConverter converter;
+		private final boolean simpleType;
 
 		/**
-		 * Creates a new {@link BoundMethodParameter}
+		 * Creates a new {@link ParameterMetadata} for the given {@link MethodParameter}.
 		 * 
 		 * @param parameter must not be {@literal null}.
-		 * @param value can be {@literal null}.
 		 * @param attribute can be {@literal null}.
+		 * @param required whether the parameter is a required one.
 		 */
-		public BoundMethodParameter(MethodParameter parameter, Object value, AnnotationAttribute attribute) {
+		ParameterMetadata(MethodParameter parameter, AnnotationAttribute attribute, boolean required) {
 
 			Assert.notNull(parameter, "MethodParameter must not be null!");
 
-			this.parameter = parameter;
-			this.value = value;
-			this.attribute = attribute;
-			this.parameterTypeDescriptor = TypeDescriptor.nested(parameter, parameter.isOptional() ? 1 : 0);
+			this.variableName = getVariableName(parameter, attribute);
+			this.required = required;
+			this.typeDescriptor = TypeDescriptor.nested(parameter, parameter.isOptional() ? 1 : 0);
+			this.converter = typeDescriptor == null ? null : CONVERSION_SERVICE.getConverter(typeDescriptor);
+
+			Class<?> type = typeDescriptor == null ? null : typeDescriptor.getObjectType();
+
+			// Only skip conversion if no formatting annotation alters the conversion of the plain type
+			this.simpleType = type != null && SIMPLE_TYPES.contains(type)
+					&& converter == CONVERSION_SERVICE.getConverter(TypeDescriptor.valueOf(type));
 		}
 
 		/**
@@ -151,7 +256,45 @@ class AnnotatedParametersParameterAccessor {
 		 * 
 		 * @return
 		 */
-		public String getVariableName() {
+		String getVariableName() {
+			return variableName;
+		}
+
+		boolean isRequired() {
+			return required;
+		}
+
+		/**
+		 * Converts the given value into a {@link String}. Values of simple types are rendered directly, all others are
+		 * converted using the {@link GenericConverter} resolved for the parameter type.
+		 * 
+		 * @param value can be {@literal null}.
+		 * @return
+		 */
+		String asString(Object value) {
+
+			if (value == null) {
+				return null;
+			}
+
+			if (simpleType && SIMPLE_TYPES.contains(value.getClass())) {
+				return value.toString();
+			}
+
+			if (converter == null || !typeDescriptor.getObjectType().isInstance(value)) {
+				return (String) CONVERSION_SERVICE.convert(value, typeDescriptor, STRING_DESCRIPTOR);
+			}
+
+			try {
+				return (String) converter.convert(value, typeDescriptor, STRING_DESCRIPTOR);
+			} catch (ConversionFailedException o_O) {
+				throw o_O;
+			} catch (RuntimeException o_O) {
+				throw new ConversionFailedException(typeDescriptor, STRING_DESCRIPTOR, value, o_O);
+			}
+		}
+
+		private static String getVariableName(MethodParameter parameter, AnnotationAttribute attribute) {
 
 			if (attribute == null) {
 				return parameter.getParameterName();
@@ -162,6 +305,65 @@ class AnnotatedParametersParameterAccessor {
 
 			return StringUtils.hasText(annotationAttributeValue) ? annotationAttributeValue : parameter.getParameterName();
 		}
+	}
+
+	/**
+	 * {@link DefaultFormattingConversionService} exposing the lookup of the {@link GenericConverter} to be used to
+	 * convert values into {@link String}s.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	private static class LookupConversionService extends DefaultFormattingConversionService {
+
+		GenericConverter getConverter(TypeDescriptor sourceType) {
+			return getConverter(sourceType, ParameterMetadata.STRING_DESCRIPTOR);
+		}
+	}
+
+	/**
+	 * Represents a {@link MethodParameter} alongside the value it has been bound to.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	static class BoundMethodParameter {
+
+		private final Object value;
+		private final ParameterMetadata metadata;
+
+		/**
+		 * Creates a new {@link BoundMethodParameter}
+		 * 
+		 * @param parameter must not be {@literal null}.
+		 * @param value can be {@literal null}.
+		 * @param attribute can be {@literal null}.
+		 */
+		public BoundMethodParameter(MethodParameter parameter, Object value, AnnotationAttribute attribute) {
+			this(value, new ParameterMetadata(parameter, attribute, true));
+		}
+
+		/**
+		 * Creates a new {@link BoundMethodParameter} using the given precomputed {@link ParameterMetadata}.
+		 * 
+		 * @param value can be {@literal null}.
+		 * @param metadata must not be {@literal null}.
+		 */
+		BoundMethodParameter(Object value, ParameterMetadata metadata) {
+
+			Assert.notNull(metadata, "ParameterMetadata must not be null!");
+
+			this.value = value;
+			this.metadata = metadata;
+		}
+
+		/**
+		 * Returns the name of the {@link UriTemplate} variable to be bound. The name will be derived from the configured
+		 * {@link AnnotationAttribute} or the {@link MethodParameter} name as fallback.
+		 * 
+		 * @return
+		 */
+		public String getVariableName() {
+			return metadata.getVariableName();
+		}
 
 		/**
 		 * Returns the raw value bound to the {@link MethodParameter}.
@@ -178,10 +380,7 @@ class AnnotatedParametersParameterAccessor {
 		 * @return
 		 */
 		public String asString() {
-
-			return value == null //
-					? null //
-					: (String) CONVERSION_SERVICE.convert(value, parameterTypeDescriptor, STRING_DESCRIPTOR);
+			return metadata.asString(value);
 		}
 
 		/**
@@ -190,7 +389,7 @@ class AnnotatedParametersParameterAccessor {
 		 * @return
 		 */
 		public boolean isRequired() {
-			return true;
+			return metadata.isRequired();
 		}
 	}
 }
@@ -18,6 +18,7 @@ package org.springframework.hateoas.mvc;
 import org.springframework.hateoas.LinkBuilder;
 import org.springframework.hateoas.core.LinkBuilderSupport;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /**
@@ -36,6 +37,18 @@ public class BasicLinkBuilder extends LinkBuilderSupport<BasicLinkBuilder> {
 		super(builder);
 	}
 
+	/**
+	 * Creates a new {@link BasicLinkBuilder} pointing to the URI of the given source with the given
+	 * {@link UriComponents} appended.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param components must not be {@literal null}.
+	 * @param encoded whether the given {@link UriComponents} are already encoded.
+	 */
+	private BasicLinkBuilder(BasicLinkBuilder source, UriComponents components, boolean encoded) {
+		super(source, components, encoded);
+	}
+
 	/**
 	 * Creates a new {@link BasicLinkBuilder} to link to the current servlet mapping.
 	 * 
@@ -54,6 +67,15 @@ public class BasicLinkBuilder extends LinkBuilderSupport<BasicLinkBuilder> {
 		return new BasicLinkBuilder(builder);
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.LinkBuilderSupport#createNewInstance(org.springframework.web.util.UriComponents, boolean)
+	 */
+	@Override
+	protected BasicLinkBuilder createNewInstance(UriComponents components, boolean encoded) {
+		return new BasicLinkBuilder(this, components, encoded);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.mvc.LinkBuilderSupport#getThis()
@@ -22,6 +22,7 @@ import lombok.experimental.Delegate;
 
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -72,6 +73,8 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 			new AnnotationMappingDiscoverer(RequestMapping.class));
 	private static final ControllerLinkBuilderFactory FACTORY = new ControllerLinkBuilderFactory();
 	private static final CustomUriTemplateHandler HANDLER = new CustomUriTemplateHandler();
+	private static final String BASE_URI_ATTRIBUTE = ControllerLinkBuilder.class.getName() + ".BASE_URI";
+	private static final boolean IS_SPRING_AT_LEAST_5_1 = isSpringAtLeast5_1();
 
 	static {
 
@@ -105,6 +108,21 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		this(uriComponents, TemplateVariables.NONE, null);
 	}
 
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} pointing to the URI of the given source with the given
+	 * {@link UriComponents} appended.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param components must not be {@literal null}.
+	 * @param encoded whether the given {@link UriComponents} are already encoded.
+	 */
+	private ControllerLinkBuilder(ControllerLinkBuilder source, UriComponents components, boolean encoded) {
+
+		super(source, components, encoded);
+
+		this.variables = TemplateVariables.NONE;
+	}
+
 	ControllerLinkBuilder(UriComponents uriComponents, TemplateVariables variables, MethodInvocation invocation) {
 
 		super(uriComponents);
@@ -214,6 +232,96 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return FACTORY.linkTo(invocationValue);
 	}
 
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the given controller method invoked with the given arguments.
+	 * Equivalent to {@code linkTo(methodOn(method.getDeclaringClass()).method(arguments…))} but doesn't create any
+	 * proxies and thus is preferable in performance critical code paths.
+	 * 
+	 * <pre>
+	 * private static final Method SHOW_ADDRESSES = ReflectionUtils.findMethod(CustomerController.class, "showAddresses",
+	 * 		Long.class);
+	 * 
+	 * Link link = linkToMethod(SHOW_ADDRESSES, 2L).withRel("addresses");
+	 * </pre>
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param arguments the arguments to bind, must match the parameters of the method.
+	 * @return
+	 * @since 1.0
+	 * @see DummyInvocationUtils#invocationOf(Class, Method, Object[], Object...)
+	 */
+	public static ControllerLinkBuilder linkToMethod(Method method, Object... arguments) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		return linkToMethod(method.getDeclaringClass(), method, arguments);
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the given controller method invoked on the given controller
+	 * type with the given arguments. Equivalent to {@code linkTo(methodOn(controller).method(arguments…))} but doesn't
+	 * create any proxies. To bind template variables of the type-level mapping, use
+	 * {@link DummyInvocationUtils#invocationOf(Class, Method, Object[], Object...)} and hand the result into
+	 * {@link #linkTo(Object)}.
+	 * 
+	 * @param controller must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param arguments the arguments to bind, must match the parameters of the method.
+	 * @return
+	 * @since 1.0
+	 */
+	public static ControllerLinkBuilder linkToMethod(Class<?> controller, Method method, Object... arguments) {
+		return FACTORY.linkTo(DummyInvocationUtils.invocationOf(controller, method, arguments));
+	}
+
+	/**
+	 * Creates {@link Link}s with the given relation pointing to the individual items exposed by the given controller,
+	 * i.e. the controller's mapping followed by the item's identifier. The mapping and the base URI are only resolved
+	 * once for all identifiers.
+	 * 
+	 * <pre>
+	 * List&lt;Link&gt; links = linksTo(CustomerController.class, Arrays.asList(1L, 2L, 3L), "customer");
+	 * </pre>
+	 * 
+	 * @param controller the class to discover the annotation on, must not be {@literal null}.
+	 * @param ids the identifiers to append to the controller mapping, must not be {@literal null}.
+	 * @param rel must not be {@literal null} or empty.
+	 * @return
+	 * @since 1.0
+	 */
+	public static List<Link> linksTo(Class<?> controller, Iterable<?> ids, String rel) {
+
+		Assert.notNull(controller, "Controller must not be null!");
+		Assert.notNull(ids, "Ids must not be null!");
+		Assert.hasText(rel, "Relation must not be null or empty!");
+
+		ControllerLinkBuilder base = linkTo(controller);
+		List<Link> links = new ArrayList<>();
+
+		for (Object id : ids) {
+			links.add(base.slash(id).withRel(rel));
+		}
+
+		return links;
+	}
+
+	/**
+	 * Creates {@link Link}s with the given relation pointing to the given controller method invoked with each of the
+	 * given argument tuples. The method's mapping and the base URI are only resolved once for all tuples.
+	 * 
+	 * @param controller must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param arguments the argument tuples to bind, each must match the parameters of the method.
+	 * @param rel must not be {@literal null} or empty.
+	 * @return
+	 * @since 1.0
+	 * @see ControllerLinkBuilderFactory#linksTo(Class, Method, Iterable, String)
+	 */
+	public static List<Link> linksToMethod(Class<?> controller, Method method, Iterable<Object[]> arguments,
+			String rel) {
+		return FACTORY.linksTo(controller, method, arguments, rel);
+	}
+
 	/**
 	 * Extract a {@link Link} from the {@link ControllerLinkBuilder} and look up the related {@link Affordance}. Should
 	 * only be one.
@@ -267,6 +375,15 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return new ControllerLinkBuilder(builder);
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.LinkBuilderSupport#createNewInstance(org.springframework.web.util.UriComponents, boolean)
+	 */
+	@Override
+	protected ControllerLinkBuilder createNewInstance(UriComponents components, boolean encoded) {
+		return new ControllerLinkBuilder(this, components, encoded);
+	}
+
 	/**
 	 * Returns a {@link UriComponentsBuilder} to continue to build the already built URI in a more fine grained way.
 	 * 
@@ -301,21 +418,36 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 	 * Returns a {@link UriComponentsBuilder} obtained from the current servlet mapping with scheme tweaked in case the
 	 * request contains an {@code X-Forwarded-Ssl} header, which is not (yet) supported by the underlying
 	 * {@link UriComponentsBuilder}. If no {@link RequestContextHolder} exists (you're outside a Spring Web call), fall
-	 * back to relative URIs.
+	 * back to relative URIs. The base URI is only computed once per request and cached in a request attribute.
 	 * 
 	 * @return
 	 */
 	public static UriComponentsBuilder getBuilder() {
 
-		if (RequestContextHolder.getRequestAttributes() == null) {
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+		if (requestAttributes == null) {
 			return UriComponentsBuilder.fromPath("/");
 		}
 
-		HttpServletRequest request = getCurrentRequest();
+		UriComponents baseUri = (UriComponents) requestAttributes.getAttribute(BASE_URI_ATTRIBUTE,
+				RequestAttributes.SCOPE_REQUEST);
+
+		if (baseUri == null) {
+
+			baseUri = getBaseUri(getCurrentRequest()).build();
+			requestAttributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		return UriComponentsBuilder.newInstance().uriComponents(baseUri);
+	}
+
+	private static UriComponentsBuilder getBaseUri(HttpServletRequest request) {
+
 		ServletUriComponentsBuilder builder = ServletUriComponentsBuilder.fromServletMapping(request);
 
 		// Spring 5.1 can handle X-Forwarded-Ssl headers...
-		if (isSpringAtLeast5_1()) {
+		if (IS_SPRING_AT_LEAST_5_1) {
 			return builder;
 		} else {
 			return handleXForwardedSslHeader(request, builder);
@@ -331,6 +463,10 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 
 		String versionOfSpringFramework = ApplicationContext.class.getPackage().getImplementationVersion();
 
+		if (versionOfSpringFramework == null) {
+			return false;
+		}
+
 		String[] parts = versionOfSpringFramework.split("\\.");
 		int majorVersion = Integer.parseInt(parts[0]);
 		int minorVersion = Integer.parseInt(parts[1]);
@@ -373,7 +509,7 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 
 		public UriTemplate getMappingAsUriTemplate(Class<?> type, Method method) {
 
-			String mapping = delegate.getMapping(type, method);
+			String mapping = HandlerMethodLinkPlan.of(type, method).getMapping();
 			return templates.computeIfAbsent(mapping, UriTemplate::new);
 		}
 	}
@@ -22,37 +22,30 @@ import static org.springframework.web.util.UriComponents.UriTemplateVariables.*;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MethodLinkBuilderFactory;
 import org.springframework.hateoas.TemplateVariable;
 import org.springframework.hateoas.TemplateVariables;
-import org.springframework.hateoas.core.AnnotationAttribute;
-import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
+import org.springframework.hateoas.core.DummyInvocationUtils;
 import org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.LinkBuilderSupport;
-import org.springframework.hateoas.core.MappingDiscoverer;
 import org.springframework.hateoas.core.MethodParameters;
 import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.BoundMethodParameter;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.util.ObjectUtils;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.ValueConstants;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.springframework.web.util.UriTemplate;
 
 /**
  * Factory for {@link LinkBuilderSupport} instances based on the request mapping annotated on the given controller.
@@ -69,12 +62,8 @@ import org.springframework.web.util.UriTemplate;
  */
 public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<ControllerLinkBuilder> {
 
-	private static final MappingDiscoverer DISCOVERER = new AnnotationMappingDiscoverer(RequestMapping.class);
-	private static final AnnotatedParametersParameterAccessor PATH_VARIABLE_ACCESSOR = new AnnotatedParametersParameterAccessor(
-			new AnnotationAttribute(PathVariable.class));
-	private static final AnnotatedParametersParameterAccessor REQUEST_PARAM_ACCESSOR = new RequestParamParameterAccessor();
-
 	private List<UriComponentsContributor> uriComponentsContributors = new ArrayList<>();
+	private Map<MethodParameter, List<UriComponentsContributor>> contributorCache = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Configures the {@link UriComponentsContributor} to be used when building {@link Link} instances from method
@@ -85,6 +74,7 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	 */
 	public void setUriComponentsContributors(List<? extends UriComponentsContributor> uriComponentsContributors) {
 		this.uriComponentsContributors = Collections.unmodifiableList(uriComponentsContributors);
+		this.contributorCache = new ConcurrentReferenceHashMap<>();
 	}
 
 	/*
@@ -135,47 +125,57 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 
 		MethodInvocation invocation = invocations.getLastInvocation();
 		Iterator<Object> classMappingParameters = invocations.getObjectParameters();
-		Method method = invocation.getMethod();
-
-		String mapping = DISCOVERER.getMapping(invocation.getTargetType(), method);
 
-		UriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(mapping);
+		HandlerMethodLinkPlan plan = HandlerMethodLinkPlan.of(invocation.getTargetType(), invocation.getMethod());
+		Object[] arguments = invocation.getArguments();
+		List<String> variableNames = plan.getVariableNames();
 
-		UriTemplate template = new UriTemplate(mapping);
 		Map<String, Object> values = new HashMap<>();
-		Iterator<String> names = template.getVariableNames().iterator();
+		Iterator<String> names = variableNames.iterator();
 
 		while (classMappingParameters.hasNext()) {
 			values.put(names.next(), encodePath(classMappingParameters.next()));
 		}
 
-		for (BoundMethodParameter parameter : PATH_VARIABLE_ACCESSOR.getBoundParameters(invocation)) {
+		for (BoundMethodParameter parameter : plan.getBoundPathVariables(arguments)) {
 			values.put(parameter.getVariableName(), encodePath(parameter.asString()));
 		}
 
+		UriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(plan.expandMapping(values));
+
 		List<String> optionalEmptyParameters = new ArrayList<>();
+		boolean requiresExpansion = !uriComponentsContributors.isEmpty();
 
-		for (BoundMethodParameter parameter : REQUEST_PARAM_ACCESSOR.getBoundParameters(invocation)) {
+		for (BoundMethodParameter parameter : plan.getBoundRequestParameters(arguments)) {
 
 			bindRequestParameters(builder, parameter);
 
-			if (SKIP_VALUE.equals(parameter.getValue())) {
+			Object value = parameter.getValue();
+
+			// Map keys are added unencoded and thus might contain template variables
+			requiresExpansion |= value instanceof Map;
+
+			if (SKIP_VALUE.equals(value)) {
 
 				values.put(parameter.getVariableName(), SKIP_VALUE);
 
-				if (!parameter.isRequired()) {
+				if (parameter.isRequired()) {
+					requiresExpansion = true;
+				} else {
 					optionalEmptyParameters.add(parameter.getVariableName());
 				}
 			}
 		}
 
-		for (String variable : template.getVariableNames()) {
+		for (String variable : variableNames) {
 			if (!values.containsKey(variable)) {
 				values.put(variable, SKIP_VALUE);
 			}
 		}
 
-		UriComponents components = applyUriComponentsContributer(builder, invocation).buildAndExpand(values);
+		// The mapping has been expanded already, so only query parameter placeholders are left to be expanded
+		builder = applyUriComponentsContributer(builder, invocation);
+		UriComponents components = requiresExpansion ? builder.buildAndExpand(values) : builder.build();
 		TemplateVariables variables = NONE;
 
 		for (String parameter : optionalEmptyParameters) {
@@ -198,7 +198,33 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 		return ControllerLinkBuilder.linkTo(method, parameters);
 	}
 
+	/**
+	 * Creates {@link Link}s with the given relation pointing to the given controller method invoked with each of the
+	 * given argument tuples. The method's mapping, its parameter metadata and the base URI are only resolved once for
+	 * all tuples.
+	 * 
+	 * @param controller must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param arguments the argument tuples to bind, each must match the parameters of the method.
+	 * @param rel must not be {@literal null} or empty.
+	 * @return
+	 * @since 1.0
+	 */
+	public List<Link> linksTo(Class<?> controller, Method method, Iterable<Object[]> arguments, String rel) {
+
+		Assert.notNull(controller, "Controller must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+		Assert.notNull(arguments, "Arguments must not be null!");
+		Assert.hasText(rel, "Relation must not be null or empty!");
+
+		List<Link> links = new ArrayList<>();
+
+		for (Object[] tuple : arguments) {
+			links.add(linkTo(DummyInvocationUtils.invocationOf(controller, method, tuple)).withRel(rel));
+		}
 
+		return links;
+	}
 
 	/**
 	 * Applies the configured {@link UriComponentsContributor}s to the given {@link UriComponentsBuilder}.
@@ -210,21 +236,39 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	protected UriComponentsBuilder applyUriComponentsContributer(UriComponentsBuilder builder,
 			MethodInvocation invocation) {
 
-		MethodParameters parameters = new MethodParameters(invocation.getMethod());
-		Iterator<Object> parameterValues = Arrays.asList(invocation.getArguments()).iterator();
+		if (uriComponentsContributors.isEmpty()) {
+			return builder;
+		}
+
+		MethodParameters parameters = HandlerMethodLinkPlan.of(invocation.getTargetType(), invocation.getMethod())
+				.getParameters();
+		Object[] arguments = invocation.getArguments();
 
 		for (MethodParameter parameter : parameters.getParameters()) {
-			Object parameterValue = parameterValues.next();
-			for (UriComponentsContributor contributor : uriComponentsContributors) {
-				if (contributor.supportsParameter(parameter)) {
-					contributor.enhance(builder, parameter, parameterValue);
-				}
+
+			Object parameterValue = arguments[parameter.getParameterIndex()];
+
+			for (UriComponentsContributor contributor : getContributorsFor(parameter)) {
+				contributor.enhance(builder, parameter, parameterValue);
 			}
 		}
 
 		return builder;
 	}
 
+	/**
+	 * Returns the configured {@link UriComponentsContributor}s that support the given {@link MethodParameter}.
+	 * 
+	 * @param parameter must not be {@literal null}.
+	 * @return
+	 */
+	private List<UriComponentsContributor> getContributorsFor(MethodParameter parameter) {
+
+		return contributorCache.computeIfAbsent(parameter, it -> uriComponentsContributors.stream() //
+				.filter(contributor -> contributor.supportsParameter(it)) //
+				.collect(Collectors.toList()));
+	}
+
 	/**
 	 * Populates the given {@link UriComponentsBuilder} with request parameters found in the given
 	 * {@link BoundMethodParameter}.
@@ -272,68 +316,4 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 			builder.queryParam(key, encodeParameter(parameter.asString()));
 		}
 	}
-
-	/**
-	 * Custom extension of {@link AnnotatedParametersParameterAccessor} for {@link RequestParam} to allow {@literal null}
-	 * values handed in for optional request parameters.
-	 * 
-	 * @author Oliver Gierke
-	 */
-	private static class RequestParamParameterAccessor extends AnnotatedParametersParameterAccessor {
-
-		public RequestParamParameterAccessor() {
-			super(new AnnotationAttribute(RequestParam.class));
-		}
-
-		/* 
-		 * (non-Javadoc)
-		 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor#createParameter(org.springframework.core.MethodParameter, java.lang.Object, org.springframework.hateoas.core.AnnotationAttribute)
-		 */
-		@Override
-		protected BoundMethodParameter createParameter(final MethodParameter parameter, Object value,
-				AnnotationAttribute attribute) {
-
-			return new BoundMethodParameter(parameter, value, attribute) {
-
-				/* 
-				 * (non-Javadoc)
-				 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.BoundMethodParameter#isRequired()
-				 */
-				@Override
-				public boolean isRequired() {
-
-					RequestParam annotation = parameter.getParameterAnnotation(RequestParam.class);
-
-					if (parameter.isOptional()) {
-						return false;
-					}
-
-					return annotation.required() //
-							&& annotation.defaultValue().equals(ValueConstants.DEFAULT_NONE);
-				}
-			};
-		}
-
-		/* 
-		 * (non-Javadoc)
-		 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor#verifyParameterValue(org.springframework.core.MethodParameter, java.lang.Object)
-		 */
-		@Override
-		protected Object verifyParameterValue(MethodParameter parameter, Object value) {
-
-			RequestParam annotation = parameter.getParameterAnnotation(RequestParam.class);
-
-			value = ObjectUtils.unwrapOptional(value);
-
-			if (value != null) {
-				return value;
-			}
-
-			if (!annotation.required() || parameter.isOptional()) {
-				return SKIP_VALUE;
-			}
-
-			return annotation.defaultValue().equals(ValueConstants.DEFAULT_NONE) ? SKIP_VALUE : null;
-		}
-	}
 }
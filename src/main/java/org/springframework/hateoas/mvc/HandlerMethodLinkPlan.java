@@ -0,0 +1,301 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.springframework.web.util.UriComponents.UriTemplateVariables.*;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.hateoas.core.AnnotationAttribute;
+import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
+import org.springframework.hateoas.core.MappingDiscoverer;
+import org.springframework.hateoas.core.MethodParameters;
+import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.BoundMethodParameter;
+import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.ParameterBinding;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ValueConstants;
+
+/**
+ * Precompiled, argument independent information needed to build links pointing to a controller method invoked on a
+ * particular controller type: the resolved mapping split into literal and variable segments, the names of the template
+ * variables contained in it, the {@link MethodParameters} of the method as well as the bindings of its
+ * {@link PathVariable} and {@link RequestParam} parameters. Instances are immutable and cached per controller type and
+ * method so that building a link only has to bind the actual argument values.
+ *
+ * @author Oliver Gierke
+ * @since 1.0
+ */
+@Getter(AccessLevel.PACKAGE)
+final class HandlerMethodLinkPlan {
+
+	private static final MappingDiscoverer DISCOVERER = new AnnotationMappingDiscoverer(RequestMapping.class);
+	private static final Map<CacheKey, HandlerMethodLinkPlan> CACHE = new ConcurrentReferenceHashMap<>();
+
+	private static final AnnotatedParametersParameterAccessor PATH_VARIABLE_ACCESSOR = new AnnotatedParametersParameterAccessor(
+			new AnnotationAttribute(PathVariable.class));
+	private static final AnnotatedParametersParameterAccessor REQUEST_PARAM_ACCESSOR = new RequestParamParameterAccessor();
+
+	private final Class<?> type;
+	private final Method method;
+	private final @Nullable String mapping;
+	private final List<String> variableNames;
+	private final MethodParameters parameters;
+	private final List<ParameterBinding> pathVariables;
+	private final List<ParameterBinding> requestParameters;
+	private final @Getter(AccessLevel.NONE) List<MappingSegment> segments;
+
+	private HandlerMethodLinkPlan(CacheKey key) {
+
+		this.type = key.getType();
+		this.method = key.getMethod();
+		this.mapping = DISCOVERER.getMapping(type, method);
+		this.segments = mapping == null ? Collections.emptyList() : MappingSegment.parse(mapping);
+		this.variableNames = getVariableNames(segments);
+		this.parameters = new MethodParameters(method);
+		this.pathVariables = PATH_VARIABLE_ACCESSOR.getBindings(parameters);
+		this.requestParameters = REQUEST_PARAM_ACCESSOR.getBindings(parameters);
+	}
+
+	/**
+	 * Returns the {@link HandlerMethodLinkPlan} for the given {@link Method} invoked on the given controller type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static HandlerMethodLinkPlan of(Class<?> type, Method method) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+
+		return CACHE.computeIfAbsent(new CacheKey(type, method), HandlerMethodLinkPlan::new);
+	}
+
+	/**
+	 * Binds the given arguments to the {@link PathVariable} parameters of the method.
+	 *
+	 * @param arguments must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	List<BoundMethodParameter> getBoundPathVariables(Object[] arguments) {
+		return PATH_VARIABLE_ACCESSOR.getBoundParameters(pathVariables, arguments);
+	}
+
+	/**
+	 * Binds the given arguments to the {@link RequestParam} parameters of the method. Absent optional values are bound
+	 * to {@link org.springframework.web.util.UriComponents.UriTemplateVariables#SKIP_VALUE}.
+	 *
+	 * @param arguments must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	List<BoundMethodParameter> getBoundRequestParameters(Object[] arguments) {
+		return REQUEST_PARAM_ACCESSOR.getBoundParameters(requestParameters, arguments);
+	}
+
+	/**
+	 * Expands the mapping using the given values. Variables without a value or bound to
+	 * {@link org.springframework.web.util.UriComponents.UriTemplateVariables#SKIP_VALUE} are kept as is.
+	 *
+	 * @param values must not be {@literal null}, values are expected to be encoded already.
+	 * @return the expanded mapping or {@literal null} if the method is not mapped.
+	 */
+	@Nullable
+	String expandMapping(Map<String, ?> values) {
+
+		Assert.notNull(values, "Values must not be null!");
+
+		if (mapping == null) {
+			return null;
+		}
+
+		StringBuilder builder = new StringBuilder(mapping.length() + 16);
+
+		for (MappingSegment segment : segments) {
+			segment.appendTo(builder, values);
+		}
+
+		return builder.toString();
+	}
+
+	private static List<String> getVariableNames(List<MappingSegment> segments) {
+
+		List<String> names = new ArrayList<>();
+
+		for (MappingSegment segment : segments) {
+			if (segment.getVariableName() != null) {
+				names.add(segment.getVariableName());
+			}
+		}
+
+		return Collections.unmodifiableList(names);
+	}
+
+	@Value
+	private static class CacheKey {
+
+		@NonNull Class<?> type;
+		@NonNull Method method;
+	}
+
+	/**
+	 * A part of a mapping, either literal text or a template variable in its original form, e.g. {@code {id:\d+}}.
+	 *
+	 * @author Oliver Gierke
+	 */
+	@Value
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	static class MappingSegment {
+
+		String source;
+		@Nullable String variableName;
+
+		/**
+		 * Splits the given mapping into {@link MappingSegment}s. Variables are delimited by curly braces which might be
+		 * nested inside regular expressions, unbalanced braces are considered literal text.
+		 *
+		 * @param mapping must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		static List<MappingSegment> parse(String mapping) {
+
+			List<MappingSegment> segments = new ArrayList<>();
+			int literalStart = 0;
+			int index = mapping.indexOf('{');
+
+			while (index != -1) {
+
+				int end = findClosingBrace(mapping, index);
+
+				if (end == -1) {
+					break;
+				}
+
+				if (literalStart < index) {
+					segments.add(new MappingSegment(mapping.substring(literalStart, index), null));
+				}
+
+				String variable = mapping.substring(index + 1, end);
+				int colon = variable.indexOf(':');
+
+				segments.add(new MappingSegment(mapping.substring(index, end + 1),
+						colon == -1 ? variable : variable.substring(0, colon)));
+
+				literalStart = end + 1;
+				index = mapping.indexOf('{', literalStart);
+			}
+
+			if (literalStart < mapping.length()) {
+				segments.add(new MappingSegment(mapping.substring(literalStart), null));
+			}
+
+			return Collections.unmodifiableList(segments);
+		}
+
+		void appendTo(StringBuilder builder, Map<String, ?> values) {
+
+			Object value = variableName == null ? null : values.get(variableName);
+
+			builder.append(value == null || SKIP_VALUE.equals(value) ? source : value.toString());
+		}
+
+		private static int findClosingBrace(String mapping, int start) {
+
+			int level = 0;
+
+			for (int i = start; i < mapping.length(); i++) {
+
+				char c = mapping.charAt(i);
+
+				if (c == '{') {
+					level++;
+				} else if (c == '}' && --level == 0) {
+					return i;
+				}
+			}
+
+			return -1;
+		}
+	}
+
+	/**
+	 * Custom extension of {@link AnnotatedParametersParameterAccessor} for {@link RequestParam} to allow {@literal null}
+	 * values handed in for optional request parameters.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	private static class RequestParamParameterAccessor extends AnnotatedParametersParameterAccessor {
+
+		public RequestParamParameterAccessor() {
+			super(new AnnotationAttribute(RequestParam.class));
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor#isRequired(org.springframework.core.MethodParameter)
+		 */
+		@Override
+		protected boolean isRequired(MethodParameter parameter) {
+
+			RequestParam annotation = parameter.getParameterAnnotation(RequestParam.class);
+
+			if (parameter.isOptional()) {
+				return false;
+			}
+
+			return annotation.required() //
+					&& annotation.defaultValue().equals(ValueConstants.DEFAULT_NONE);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor#verifyParameterValue(org.springframework.core.MethodParameter, java.lang.Object)
+		 */
+		@Override
+		protected Object verifyParameterValue(MethodParameter parameter, Object value) {
+
+			RequestParam annotation = parameter.getParameterAnnotation(RequestParam.class);
+
+			value = ObjectUtils.unwrapOptional(value);
+
+			if (value != null) {
+				return value;
+			}
+
+			if (!annotation.required() || parameter.isOptional()) {
+				return SKIP_VALUE;
+			}
+
+			return annotation.defaultValue().equals(ValueConstants.DEFAULT_NONE) ? SKIP_VALUE : null;
+		}
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.hateoas.mvc;
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.springframework.hateoas.Identifiable;
 import org.springframework.hateoas.ResourceAssembler;
@@ -61,6 +62,18 @@ public abstract class IdentifiableResourceAssemblerSupport<T extends Identifiabl
 		return createResourceWithId(entity.getId(), entity, parameters);
 	}
 
+	/**
+	 * Creates new resources for the given entities and adds self links using the {@link Identifiable}s' ids. The
+	 * controller mapping is only resolved once for all of them.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @return
+	 * @see #createResourcesWithIds(Iterable, java.util.function.Function)
+	 */
+	protected List<D> createResources(Iterable<? extends T> entities) {
+		return createResourcesWithIds(entities, Identifiable::getId);
+	}
+
 	@Override
 	protected D createResourceWithId(Object id, T entity, Object... parameters) {
 
@@ -19,8 +19,10 @@ import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import org.springframework.beans.BeanUtils;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
@@ -83,6 +85,45 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 		return instance;
 	}
 
+	/**
+	 * Creates new resources for the given entities, each with a self link to the id obtained from it. The controller
+	 * mapping and the base URI the ids are appended to are only resolved once for all of them. Use this from
+	 * {@link #toResources(Iterable)} implementations assembling large collections of resources.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @param idExtractor the {@link Function} to obtain the id to link to from an entity, must not be {@literal null}.
+	 * @return
+	 * @see ControllerLinkBuilder#linksTo(Class, Iterable, String)
+	 */
+	protected List<D> createResourcesWithIds(Iterable<? extends T> entities, Function<? super T, ?> idExtractor) {
+
+		Objects.requireNonNull(entities, "Entities must not be null!");
+		Objects.requireNonNull(idExtractor, "Id extractor must not be null!");
+
+		List<T> elements = new ArrayList<>();
+		List<Object> ids = new ArrayList<>();
+
+		for (T entity : entities) {
+
+			Objects.requireNonNull(entity, "Entity must not be null!");
+
+			elements.add(entity);
+			ids.add(Objects.requireNonNull(idExtractor.apply(entity), "Id must not be null!"));
+		}
+
+		List<Link> links = linksTo(this.controllerClass, ids, Link.REL_SELF);
+		List<D> result = new ArrayList<>(elements.size());
+
+		for (int i = 0; i < elements.size(); i++) {
+
+			D instance = instantiateResource(elements.get(i));
+			instance.add(links.get(i));
+			result.add(instance);
+		}
+
+		return result;
+	}
+
 	/**
 	 * Instantiates the resource object. Default implementation will assume a no-arg constructor and use reflection but
 	 * can be overridden to manually set up the object instance initially (e.g. to improve performance if this becomes an
@@ -104,7 +104,15 @@ public class ResourceProcessorInvoker {
 			Resources<?> resources = (Resources<?>) value;
 			ResolvableType elementTargetType = ResolvableType.forClass(Resources.class, referenceType.getRawClass())
 					.getGeneric(0);
-			List<Object> result = new ArrayList<>(resources.getContent().size());
+			Object content = ReflectionUtils.getField(ResourceProcessorHandlerMethodReturnValueHandler.CONTENT_FIELD,
+					resources);
+
+			// Replace elements in place if possible to avoid another copy of the content
+			List<Object> result = content instanceof ArrayList //
+					? (List<Object>) content //
+					: new ArrayList<>(resources.getContent().size());
+			boolean inPlace = result == content;
+			int index = 0;
 
 			for (Object element : resources) {
 
@@ -114,10 +122,18 @@ public class ResourceProcessorInvoker {
 					elementTargetType = elementType;
 				}
 
-				result.add(invokeProcessorsFor(element, elementTargetType));
+				Object processed = invokeProcessorsFor(element, elementTargetType);
+
+				if (inPlace) {
+					result.set(index++, processed);
+				} else {
+					result.add(processed);
+				}
 			}
 
-			ReflectionUtils.setField(ResourceProcessorHandlerMethodReturnValueHandler.CONTENT_FIELD, resources, result);
+			if (!inPlace) {
+				ReflectionUtils.setField(ResourceProcessorHandlerMethodReturnValueHandler.CONTENT_FIELD, resources, result);
+			}
 		}
 
 		return (T) invokeProcessorsFor((Object) value, referenceType);
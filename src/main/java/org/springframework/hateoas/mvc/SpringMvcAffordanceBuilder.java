@@ -15,9 +15,14 @@
  */
 package org.springframework.hateoas.mvc;
 
+import lombok.Value;
+
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.core.ResolvableType;
@@ -29,17 +34,22 @@ import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.MappingDiscoverer;
 import org.springframework.hateoas.core.MethodParameters;
 import org.springframework.http.HttpMethod;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.util.UriComponents;
 
 /**
- * Extract information needed to assemble an {@link Affordance} from a Spring MVC web method.
+ * Extract information needed to assemble an {@link Affordance} from a Spring MVC web method. The argument independent
+ * parts are computed once per handler method and cached so that only the link has to be bound per invocation.
  * 
  * @author Greg Turnquist
+ * @author Oliver Gierke
  */
 class SpringMvcAffordanceBuilder {
 
+	private static final Map<CacheKey, List<AffordanceTemplate>> TEMPLATES = new ConcurrentReferenceHashMap<>();
+
 	/**
 	 * Use the attributes of the current method call along with a collection of {@link AffordanceModelFactory}'s to create
 	 * a set of {@link Affordance}s.
@@ -52,32 +62,76 @@ class SpringMvcAffordanceBuilder {
 	public static Collection<Affordance> create(MethodInvocation invocation, MappingDiscoverer discoverer,
 			UriComponents components) {
 
-		List<Affordance> affordances = new ArrayList<>();
+		List<AffordanceTemplate> templates = TEMPLATES.computeIfAbsent(
+				new CacheKey(discoverer, invocation.getTargetType(), invocation.getMethod()),
+				SpringMvcAffordanceBuilder::createTemplates);
+
+		if (templates.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Link affordanceLink = new Link(components.toUriString()).withRel(invocation.getMethod().getName());
+		List<Affordance> affordances = new ArrayList<>(templates.size());
+
+		for (AffordanceTemplate template : templates) {
+			affordances.add(template.toAffordance(affordanceLink));
+		}
+
+		return affordances;
+	}
+
+	private static List<AffordanceTemplate> createTemplates(CacheKey key) {
+
+		Method method = key.getMethod();
+		Collection<HttpMethod> requestMethods = key.getDiscoverer().getRequestMethod(key.getType(), method);
 
-		for (HttpMethod requestMethod : discoverer.getRequestMethod(invocation.getTargetType(), invocation.getMethod())) {
+		if (requestMethods.isEmpty()) {
+			return Collections.emptyList();
+		}
 
-			String methodName = invocation.getMethod().getName();
+		MethodParameters invocationMethodParameters = new MethodParameters(method);
 
-			Link affordanceLink = new Link(components.toUriString()).withRel(methodName);
+		ResolvableType inputType = invocationMethodParameters.getParametersWith(RequestBody.class).stream()
+			.findFirst()
+			.map(ResolvableType::forMethodParameter)
+			.orElse(ResolvableType.NONE);
 
-			MethodParameters invocationMethodParameters = new MethodParameters(invocation.getMethod());
-			
-			ResolvableType inputType = invocationMethodParameters.getParametersWith(RequestBody.class).stream()
-				.findFirst()
-				.map(ResolvableType::forMethodParameter)
-				.orElse(ResolvableType.NONE);
+		List<QueryParameter> queryMethodParameters = invocationMethodParameters.getParametersWith(RequestParam.class).stream()
+			.map(methodParameter -> methodParameter.getParameterAnnotation(RequestParam.class))
+			.map(requestParam -> new QueryParameter(requestParam.name(), requestParam.value(), requestParam.required()))
+			.collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
 
-			List<QueryParameter> queryMethodParameters = invocationMethodParameters.getParametersWith(RequestParam.class).stream()
-				.map(methodParameter -> methodParameter.getParameterAnnotation(RequestParam.class))
-				.map(requestParam -> new QueryParameter(requestParam.name(), requestParam.value(), requestParam.required()))
-				.collect(Collectors.toList());
+		ResolvableType outputType = ResolvableType.forMethodReturnType(method);
+
+		return Collections.unmodifiableList(requestMethods.stream() //
+				.map(it -> new AffordanceTemplate(method.getName(), it, inputType, queryMethodParameters, outputType)) //
+				.collect(Collectors.toList()));
+	}
 
-			ResolvableType outputType = ResolvableType.forMethodReturnType(invocation.getMethod());
+	/**
+	 * The argument independent parts of an {@link Affordance} for a handler method and a particular {@link HttpMethod}.
+	 *
+	 * @author Oliver Gierke
+	 */
+	@Value
+	private static class AffordanceTemplate {
 
-			affordances.add(new Affordance(methodName, affordanceLink, requestMethod, inputType, queryMethodParameters, outputType));
+		String name;
+		HttpMethod httpMethod;
+		ResolvableType inputType;
+		List<QueryParameter> queryMethodParameters;
+		ResolvableType outputType;
 
+		Affordance toAffordance(Link link) {
+			return new Affordance(name, link, httpMethod, inputType, queryMethodParameters, outputType);
 		}
+	}
 
-		return affordances;
+	@Value
+	private static class CacheKey {
+
+		MappingDiscoverer discoverer;
+		Class<?> type;
+		Method method;
 	}
 }
@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.*;
 
 import lombok.Value;
 
+import java.util.Locale;
+
 import org.junit.Test;
 
 /**
@@ -64,6 +66,38 @@ public class IanaLinkRelationUnitTest {
 		assertThatIllegalArgumentException().isThrownBy(() -> IanaLinkRelation.parse("FAULTY"));
 	}
 
+	@Test
+	public void resolvesAllIanaLinkRelationsIgnoringCase() {
+
+		for (IanaLinkRelation relation : IanaLinkRelation.values()) {
+
+			assertThat(IanaLinkRelation.parse(relation.value())).isEqualTo(relation);
+			assertThat(IanaLinkRelation.parse(relation.value().toUpperCase(Locale.US))).isEqualTo(relation);
+		}
+
+		assertThat(IanaLinkRelation.parse("Working-Copy-Of")).isEqualTo(IanaLinkRelation.WORKING_COPY_OF);
+	}
+
+	@Test
+	public void resolvesMixedCaseIanaLinkRelationsIgnoringCase() {
+
+		assertThat(IanaLinkRelation.isIanaRel("describedBy")).isTrue();
+		assertThat(IanaLinkRelation.isIanaRel("describedby")).isTrue();
+		assertThat(IanaLinkRelation.isIanaRel("DESCRIBEDBY")).isTrue();
+		assertThat(IanaLinkRelation.parse("intervalafter")).isEqualTo(IanaLinkRelation.INTERVAL_AFTER);
+	}
+
+	@Test
+	public void canonicalizesOnlyRelationsGivenInCanonicalSpelling() {
+
+		String rel = new String("describedBy");
+		String lowerCase = "describedby";
+
+		assertThat(IanaLinkRelation.canonicalize(rel)).isSameAs(IanaLinkRelation.DESCRIBED_BY.value());
+		assertThat(IanaLinkRelation.canonicalize(lowerCase)).isSameAs(lowerCase);
+		assertThat(IanaLinkRelation.canonicalize("custom")).isEqualTo("custom");
+	}
+
 	@Test
 	public void testIanaLinkRelationShouldPass() {
 		assertThat(IanaLinkRelation.isIanaRel(IanaLinkRelation.ABOUT)).isTrue();
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LinkHeaderParser}.
+ *
+ * @author Oliver Gierke
+ */
+public class LinkHeaderParserUnitTest {
+
+	@Test
+	public void parsesCommasInUrisAndQuotedValuesContainingDelimiters() {
+
+		List<Link> links = LinkHeaderParser
+				.parseLinks("<http://localhost/foo?bar=a,b>;rel=\"next\";title=\"a>;b\", </other>; rel=\"prev\"");
+
+		assertThat(links).containsExactly(new Link("http://localhost/foo?bar=a,b", "next").withTitle("a>;b"),
+				new Link("/other", "prev"));
+	}
+
+	@Test
+	public void parsesSingleLinkWithQuotedValuesContainingDelimiters() {
+
+		Link link = LinkHeaderParser.parseLink("</foo>;rel=\"next\";title=\"a>;b\"");
+
+		assertThat(link).isEqualTo(new Link("/foo", "next").withTitle("a>;b"));
+	}
+
+	@Test
+	public void readsTokenAndQuotedStringValues() {
+
+		Link link = LinkHeaderParser
+				.parseLink("</foo>; REL = next;title=\"Next \\\"Page\\\" \\\\ 2\";unknown=\"value\";rel=\"prev\"");
+
+		assertThat(link).isEqualTo(new Link("/foo", "next").withTitle("Next \"Page\" \\ 2"));
+	}
+
+	@Test
+	public void ignoresParametersWithUnterminatedQuotedString() {
+
+		Link link = LinkHeaderParser.parseLink("</foo>;rel=next;title=\"Next");
+
+		assertThat(link).isEqualTo(new Link("/foo", "next"));
+	}
+
+	@Test
+	public void readsUriAttributeValues() {
+
+		Link link = LinkHeaderParser.parseLink("</foo>;rel=\"next\";deprecation=\"http://example.com/deprecated\"");
+
+		assertThat(link.getDeprecation()).isEqualTo("http://example.com/deprecated");
+	}
+
+	@Test
+	public void rejectsElementsWithoutRel() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> LinkHeaderParser.parseLink("</foo>;title=\"title\""));
+		assertThatIllegalArgumentException().isThrownBy(() -> LinkHeaderParser.parseLink("</foo>"));
+		assertThatIllegalArgumentException().isThrownBy(() -> LinkHeaderParser.parseLink("foo"));
+	}
+
+	/**
+	 * Feeds random headers into the parser and verifies the result matches the one of the regular expression based
+	 * parsing the parser replaced. Only generates headers within the grammar both parsers accept, i.e. quoted lower case
+	 * or URI values, distinct attribute names and no whitespace in front of the delimiters.
+	 */
+	@Test
+	public void parsesRandomInputLikeRegularExpressionBasedParsing() {
+
+		String[] hrefs = { "", "/p", "foo bar", "http://x.org/a,b", "https://y/{?page}", "<http://a/b?c=d,e" };
+		String[] names = { "hreflang", "media", "title", "type", "deprecation", "profile", "x" };
+		String[] values = { "a", "next", "some title", "rel-with-minus-and-.", "b 1.0", "http://x.org/a,b;c",
+				"https://y.org/rels/foo-bar" };
+		String[] whitespace = { "", " ", "\t", "  " };
+
+		Random random = new Random(4711);
+
+		for (int i = 0; i < 20000; i++) {
+
+			StringBuilder builder = new StringBuilder();
+			int count = 1 + random.nextInt(3);
+
+			for (int j = 0; j < count; j++) {
+
+				if (j != 0) {
+					builder.append(',').append(whitespace[random.nextInt(whitespace.length)]);
+				}
+
+				builder.append('<').append(hrefs[random.nextInt(hrefs.length)]).append('>');
+
+				List<String> attributes = new ArrayList<>(Arrays.asList(names));
+				Collections.shuffle(attributes, random);
+				attributes = new ArrayList<>(attributes.subList(0, random.nextInt(4)));
+				attributes.add(random.nextInt(attributes.size() + 1), "rel");
+
+				for (String attribute : attributes) {
+					builder.append(';').append(whitespace[random.nextInt(whitespace.length)]) //
+							.append(attribute).append("=\"").append(values[random.nextInt(values.length)]).append('"');
+				}
+			}
+
+			String source = builder.toString();
+
+			assertThat(evaluate(() -> LinkHeaderParser.parseLinks(source))) //
+					.as("Parsing links from %s", source) //
+					.isEqualTo(evaluate(() -> RegexParser.parseLinks(source)));
+
+			if (count == 1) {
+
+				assertThat(evaluate(() -> LinkHeaderParser.parseLink(source))) //
+						.as("Parsing link from %s", source) //
+						.isEqualTo(evaluate(() -> RegexParser.parseLink(source)));
+			}
+		}
+	}
+
+	private static Object evaluate(Callable<Object> callable) {
+
+		try {
+			return callable.call();
+		} catch (Exception o_O) {
+			return o_O.getClass();
+		}
+	}
+
+	/**
+	 * The regular expression based parsing formerly used by {@link Link#valueOf(String)} and
+	 * {@link Links#valueOf(String)}.
+	 */
+	static class RegexParser {
+
+		private static final String URI_PATTERN = "(https?|ftp|file)://[-a-zA-Z0-9+&@#/%?=~_|!:,.;]*[-a-zA-Z0-9+&@#/%=~_|]";
+
+		private static final Pattern URI_AND_ATTRIBUTES_PATTERN = Pattern.compile("<(.*)>;(.*)");
+		private static final Pattern KEY_AND_VALUE_PATTERN = Pattern
+				.compile("(\\w+)=\"(\\p{Lower}[\\p{Lower}\\p{Digit}.\\-\\s]*|" + URI_PATTERN + ")\"");
+		private static final Pattern LINK_HEADER_PATTERN = Pattern.compile("(<[^>]*>(;\\s*\\w+=\"[^\"]*\")+)");
+
+		static List<Link> parseLinks(String source) {
+
+			Matcher matcher = LINK_HEADER_PATTERN.matcher(source);
+			List<Link> links = new ArrayList<>();
+
+			while (matcher.find()) {
+				links.add(parseLink(matcher.group()));
+			}
+
+			return links;
+		}
+
+		static Link parseLink(String element) {
+
+			Matcher matcher = URI_AND_ATTRIBUTES_PATTERN.matcher(element);
+
+			if (!matcher.find()) {
+				throw new IllegalArgumentException();
+			}
+
+			Map<String, String> attributes = new HashMap<>();
+			Matcher attributeMatcher = KEY_AND_VALUE_PATTERN.matcher(matcher.group(2));
+
+			while (attributeMatcher.find()) {
+				attributes.put(attributeMatcher.group(1), attributeMatcher.group(2));
+			}
+
+			if (!attributes.containsKey("rel")) {
+				throw new IllegalArgumentException();
+			}
+
+			return new Link(matcher.group(1), attributes.get("rel")) //
+					.withHreflang(attributes.get("hreflang")) //
+					.withMedia(attributes.get("media")) //
+					.withTitle(attributes.get("title")) //
+					.withType(attributes.get("type")) //
+					.withDeprecation(attributes.get("deprecation")) //
+					.withProfile(attributes.get("profile"));
+		}
+	}
+}
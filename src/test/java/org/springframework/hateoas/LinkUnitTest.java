@@ -31,6 +31,7 @@ import org.springframework.core.ResolvableType;
 import org.springframework.hateoas.support.Employee;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * Unit tests for {@link Link}.
@@ -136,7 +137,7 @@ public class LinkUnitTest {
 
 			softly.assertThat(Link.valueOf("</something>;rel=\"foo\"")).isEqualTo(new Link("/something", "foo"));
 			softly.assertThat(Link.valueOf("</something>;rel=\"foo\";title=\"Some title\""))
-					.isEqualTo(new Link("/something", "foo"));
+					.isEqualTo(new Link("/something", "foo").withTitle("Some title"));
 			softly.assertThat(Link.valueOf("</customer/1>;" //
 					+ "rel=\"self\";" //
 					+ "hreflang=\"en\";" //
@@ -154,6 +155,61 @@ public class LinkUnitTest {
 		});
 	}
 
+	@Test
+	public void usesCanonicalInstancesForIanaRelations() {
+
+		Link link = new Link("/foo", new String("next"));
+
+		assertThat(link.getRel()).isSameAs(IanaLinkRelation.NEXT.value());
+		assertThat(new Link("/foo", "NEXT").getRel()).isEqualTo("NEXT");
+		assertThat(new Link("/foo", "custom").getRel()).isEqualTo("custom");
+	}
+
+	@Test
+	public void sharesEmptyAffordancesAndResolvesTemplateOfPlainHrefLazily() {
+
+		Link link = new Link("/foo");
+
+		assertThat(link.getAffordances()).isEmpty();
+		assertThat(link.isTemplated()).isFalse();
+		assertThat(link.getTemplate()).isNotNull();
+		assertThat(link.getTemplate().toString()).isEqualTo("/foo");
+		assertThat(new Link("/foo{?bar}{&baz}").getHref()).isEqualTo(new UriTemplate("/foo{?bar}{&baz}").toString());
+	}
+
+	@Test
+	public void answersTemplateQuestionsForPlainHrefWithoutParsingIt() {
+
+		Link link = new Link("/foo", "bar").withTitle("title");
+
+		assertThat(link.isTemplated()).isFalse();
+		assertThat(link.getVariables()).isEmpty();
+		assertThat(link.getVariableNames()).isEmpty();
+		assertThat(link.expand("value")).isEqualTo(new Link("/foo", "bar"));
+		assertThat(link.expand(Collections.singletonMap("key", "value"))).isEqualTo(new Link("/foo", "bar"));
+		assertThat(ReflectionTestUtils.getField(link, "template")).isNull();
+	}
+
+	@Test
+	public void rendersAllAttributesIntoRFC5988String() {
+
+		Link link = new Link("/customer/1") //
+				.withHreflang("en") //
+				.withMedia("pdf") //
+				.withTitle("pdf customer copy") //
+				.withType("portable document") //
+				.withDeprecation("http://example.com/customers/deprecated") //
+				.withProfile("my-profile");
+
+		String expected = "</customer/1>;rel=\"self\";hreflang=\"en\";media=\"pdf\";title=\"pdf customer copy\";"
+				+ "type=\"portable document\";deprecation=\"http://example.com/customers/deprecated\";profile=\"my-profile\"";
+
+		assertThat(link.toString()).isEqualTo(expected);
+		assertThat(link.appendTo(new StringBuilder()).toString()).isEqualTo(expected);
+		assertThat(link.estimateLength()).isGreaterThanOrEqualTo(expected.length());
+		assertThat(Link.valueOf(link.toString())).isEqualTo(link);
+	}
+
 	/**
 	 * @see #100
 	 */
@@ -392,4 +448,17 @@ public class LinkUnitTest {
 		assertThat(link.getAffordances().get(0).getAffordanceModel(MediaTypes.UBER_JSON).getOutputType().resolve()).isEqualTo(Employee.class);
 	}
 
+	@Test
+	public void createsAffordanceModelsLazilyAndOnlyOnce() {
+
+		Link link = new Link("/").andAffordance(HttpMethod.POST, Employee.class, Collections.emptyList(), Employee.class);
+		Affordance affordance = link.getAffordances().get(0);
+
+		AffordanceModel model = affordance.getAffordanceModel(MediaTypes.HAL_FORMS_JSON);
+
+		assertThat(model).isNotNull();
+		assertThat(affordance.<AffordanceModel> getAffordanceModel(MediaTypes.HAL_FORMS_JSON)).isSameAs(model);
+		assertThat(affordance.<AffordanceModel> getAffordanceModel(MediaTypes.HAL_JSON)).isNull();
+		assertThat(affordance.getAffordanceModels().get(MediaTypes.HAL_FORMS_JSON)).isSameAs(model);
+	}
 }
@@ -56,6 +56,16 @@ public class LinksUnitTest {
 		assertThat(reference2.toString()).isEqualTo(LINKS2);
 	}
 
+	@Test
+	public void appendsLinksToGivenStringBuilder() {
+
+		StringBuilder builder = new StringBuilder("Link: ");
+
+		assertThat(reference2.appendTo(builder)).isSameAs(builder);
+		assertThat(builder.toString()).isEqualTo("Link: " + LINKS2);
+		assertThat(new Links().toString()).isEmpty();
+	}
+
 	@Test
 	public void skipsEmptyLinkElements() {
 		assertThat(Links.valueOf(LINKS + ",,,")).isEqualTo(reference);
@@ -17,6 +17,7 @@ package org.springframework.hateoas;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.Before;
@@ -102,4 +103,13 @@ public class PagedResourcesUnitTest {
 	public void calculatesTotalPagesCorrectly() {
 		assertThat(new PageMetadata(5, 0, 16).getTotalPages()).isEqualTo(4L);
 	}
+
+	@Test
+	public void wrapsElementsInResourcesKeepingTheirOrder() {
+
+		PagedResources<Resource<String>> resources = PagedResources.wrap(Arrays.asList("first", "second"), metadata);
+
+		assertThat(resources.getContent()).containsExactly(new Resource<>("first"), new Resource<>("second"));
+		assertThat(resources.getMetadata()).isEqualTo(metadata);
+	}
 }
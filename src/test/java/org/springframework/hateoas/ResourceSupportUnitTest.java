@@ -18,6 +18,8 @@ package org.springframework.hateoas;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ListIterator;
 
 import org.junit.Test;
 
@@ -173,4 +175,85 @@ public class ResourceSupportUnitTest {
 		assertThat(support.hasLink("self")).isTrue();
 		assertThat(support.hasLink("another")).isTrue();
 	}
+
+	@Test
+	public void looksUpLinksByRelOnResourcesWithManyLinks() {
+
+		ResourceSupport support = new ResourceSupport();
+
+		for (int i = 0; i < 20; i++) {
+			support.add(new Link("/" + i, i % 2 == 0 ? "even" : "odd"));
+		}
+
+		assertThat(support.getLinks()).hasSize(20);
+		assertThat(support.getLinks().get(0).getHref()).isEqualTo("/0");
+		assertThat(support.getRequiredLink("odd").getHref()).isEqualTo("/1");
+		assertThat(support.getLinks("even")).hasSize(10);
+		assertThat(support.getLinks("even").get(0).getHref()).isEqualTo("/0");
+		assertThat(support.hasLink("none")).isFalse();
+	}
+
+	@Test
+	public void reflectsModificationsMadeThroughLinkListInLookups() {
+
+		ResourceSupport support = new ResourceSupport();
+
+		for (int i = 0; i < 20; i++) {
+			support.add(new Link("/" + i, "rel" + i));
+		}
+
+		assertThat(support.hasLink("rel0")).isTrue();
+
+		support.getLinks().remove(0);
+		support.getLinks().set(0, new Link("/replaced", "replaced"));
+		support.getLinks().add(new Link("/added", "added"));
+
+		assertThat(support.hasLink("rel0")).isFalse();
+		assertThat(support.hasLink("rel1")).isFalse();
+		assertThat(support.getRequiredLink("replaced").getHref()).isEqualTo("/replaced");
+		assertThat(support.getRequiredLink("added").getHref()).isEqualTo("/added");
+
+		support.removeLinks();
+
+		assertThat(support.hasLink("added")).isFalse();
+	}
+
+	@Test
+	public void reflectsModificationsMadeThroughViewsOfLinkListInLookups() {
+
+		ResourceSupport support = new ResourceSupport();
+
+		for (int i = 0; i < 20; i++) {
+			support.add(new Link("/" + i, "rel" + i));
+		}
+
+		assertThat(support.hasLink("rel0")).isTrue();
+
+		support.getLinks().subList(0, 5).set(0, new Link("/sublist", "sublist"));
+
+		assertThat(support.hasLink("rel0")).isFalse();
+		assertThat(support.hasLink("sublist")).isTrue();
+
+		ListIterator<Link> iterator = support.getLinks().listIterator(1);
+		iterator.next();
+		iterator.set(new Link("/iterator", "iterator"));
+
+		assertThat(support.hasLink("rel1")).isFalse();
+		assertThat(support.hasLink("iterator")).isTrue();
+
+		support.getLinks().replaceAll(it -> it.hasRel("rel2") ? new Link("/replaced", "replaced") : it);
+
+		assertThat(support.hasLink("rel2")).isFalse();
+		assertThat(support.hasLink("replaced")).isTrue();
+
+		support.getLinks().sort(Comparator.comparing(Link::getHref).reversed());
+
+		assertThat(support.getRequiredLink("rel9").getHref()).isEqualTo("/9");
+		assertThat(support.getLinks().get(0).getHref()).isEqualTo("/sublist");
+
+		support.getLinks().subList(0, 10).clear();
+
+		assertThat(support.hasLink("sublist")).isFalse();
+		assertThat(support.getLinks()).hasSize(10);
+	}
 }
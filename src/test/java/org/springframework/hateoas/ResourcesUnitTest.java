@@ -17,7 +17,10 @@ package org.springframework.hateoas;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Test;
@@ -69,4 +72,31 @@ public class ResourcesUnitTest {
 		assertThat(left).isNotEqualTo(right);
 		assertThat(right).isNotEqualTo(left);
 	}
+
+	@Test
+	public void copiesContentHandedIntoConstructor() {
+
+		List<String> content = new ArrayList<>(Arrays.asList("first", "second"));
+		Resources<String> resources = new Resources<>(content);
+
+		content.add("third");
+
+		assertThat(resources.getContent()).containsExactly("first", "second");
+	}
+
+	@Test
+	public void copiesContentOfPlainIterable() {
+
+		Iterable<String> content = () -> Arrays.asList("first", "second").iterator();
+
+		assertThat(new Resources<>(content).getContent()).containsExactly("first", "second");
+	}
+
+	@Test
+	public void wrapsElementsInResourcesKeepingTheirOrder() {
+
+		Resources<Resource<String>> resources = Resources.wrap(Arrays.asList("first", "second"));
+
+		assertThat(resources.getContent()).containsExactly(new Resource<>("first"), new Resource<>("second"));
+	}
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+import org.springframework.hateoas.UriTemplateCache.Statistics;
+
+/**
+ * Unit tests for {@link UriTemplateCache}.
+ *
+ * @author Oliver Gierke
+ */
+public class UriTemplateCacheUnitTest {
+
+	@Test
+	public void returnsCachedTemplateForSameString() {
+
+		UriTemplateCache cache = new UriTemplateCache(2);
+
+		UriTemplate template = cache.get("/foo{?bar}");
+
+		assertThat(cache.get("/foo{?bar}")).isSameAs(template);
+		assertThat(template.getVariableNames()).containsExactly("bar");
+
+		Statistics statistics = cache.getStatistics();
+
+		assertThat(statistics.getHitCount()).isEqualTo(1);
+		assertThat(statistics.getMissCount()).isEqualTo(1);
+		assertThat(statistics.getSize()).isEqualTo(1);
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedTemplate() {
+
+		UriTemplateCache cache = new UriTemplateCache(2);
+
+		UriTemplate first = cache.get("/first");
+		UriTemplate second = cache.get("/second");
+
+		cache.get("/first");
+		cache.get("/third");
+
+		assertThat(cache.get("/first")).isSameAs(first);
+		assertThat(cache.get("/second")).isNotSameAs(second);
+		assertThat(cache.getStatistics().getEvictionCount()).isEqualTo(2);
+		assertThat(cache.getStatistics().getSize()).isEqualTo(2);
+	}
+
+	@Test
+	public void staysWithinMaximumSizeAcrossSegments() {
+
+		UriTemplateCache cache = new UriTemplateCache(256);
+
+		for (int i = 0; i < 1000; i++) {
+			cache.get("/people/" + i + "{?projection}");
+		}
+
+		Statistics statistics = cache.getStatistics();
+
+		assertThat(statistics.getSize()).isLessThanOrEqualTo(256);
+		assertThat(statistics.getEvictionCount()).isEqualTo(1000 - statistics.getSize());
+	}
+
+	@Test
+	public void doesNotCachePlainUris() {
+
+		UriTemplateCache cache = UriTemplateCache.getSharedInstance();
+		long misses = cache.getStatistics().getMissCount();
+
+		UriTemplate.of("/people/4711");
+
+		assertThat(cache.getStatistics().getMissCount()).isEqualTo(misses);
+	}
+
+	@Test
+	public void doesNotCacheTemplatesIfDisabled() {
+
+		UriTemplateCache cache = new UriTemplateCache(0);
+
+		assertThat(cache.get("/foo")).isNotSameAs(cache.get("/foo"));
+		assertThat(cache.getStatistics().getMissCount()).isEqualTo(2);
+		assertThat(cache.getStatistics().getSize()).isEqualTo(0);
+	}
+
+	@Test
+	public void clearRemovesCachedTemplates() {
+
+		UriTemplateCache cache = new UriTemplateCache(2);
+
+		UriTemplate template = cache.get("/foo");
+		cache.clear();
+
+		assertThat(cache.get("/foo")).isNotSameAs(template);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNegativeMaximumSize() {
+		new UriTemplateCache(-1);
+	}
+
+	@Test
+	public void staticFactoryMethodUsesSharedCache() {
+		assertThat(UriTemplate.of("/shared/{id}")).isSameAs(UriTemplate.of("/shared/{id}"));
+	}
+}
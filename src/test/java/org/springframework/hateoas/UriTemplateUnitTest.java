@@ -28,6 +28,7 @@ import java.util.Map;
 
 import org.junit.Test;
 import org.springframework.hateoas.TemplateVariable.VariableType;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * Unit tests for {@link UriTemplate}.
@@ -326,6 +327,69 @@ public class UriTemplateUnitTest {
 		assertThat(expandedTemplate).isEqualTo("/foo?bar=barExpanded&foobar=singleValue");
 	}
 
+	@Test
+	public void encodesRequiredVariableValues() {
+
+		UriTemplate template = new UriTemplate("/foo/{bar}");
+
+		assertThat(template.expand("with blank").toString()).isEqualTo("/foo/with%20blank");
+	}
+
+	@Test
+	public void expandsRequiredVariablesInAbsoluteUri() {
+
+		UriTemplate template = new UriTemplate("http://localhost:8080/foo/{bar}?sort={sort}{&page}");
+
+		URI uri = template.expand(new HashMap<String, Object>() {{
+			put("bar", "b");
+			put("sort", "name,asc");
+			put("page", 2);
+		}});
+
+		assertThat(uri.toString()).isEqualTo("http://localhost:8080/foo/b?sort=name,asc&page=2");
+	}
+
+	@Test
+	public void appendsSegmentToPathWithTrailingSlash() {
+
+		UriTemplate template = new UriTemplate("/foo/{/bar}");
+
+		assertThat(template.expand("bar").toString()).isEqualTo("/foo/bar");
+		assertThat(template.expand().toString()).isEqualTo("/foo/");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMissingPositionalValueForRequiredVariable() {
+		new UriTemplate("/foo/{bar}/{baz}").expand("bar");
+	}
+
+	@Test
+	public void rendersToStringConsistently() {
+
+		UriTemplate template = new UriTemplate("/foo?bar{&foobar}");
+
+		assertThat(template.toString()).isEqualTo("/foo?bar{&foobar}");
+		assertThat(template.toString()).isSameAs(template.toString());
+	}
+
+	@Test
+	public void compilesBaseUriOncePerInstanceOnly() {
+
+		UriTemplate template = new UriTemplate("/orders/{id}{?page}");
+		UriTemplate other = new UriTemplate("/orders/{id}{?page}");
+
+		assertThat(template.expand(1, 2).toString()).isEqualTo("/orders/1?page=2");
+
+		Object compiled = ReflectionTestUtils.getField(template, "compiled");
+
+		assertThat(template.expand(3).toString()).isEqualTo("/orders/3");
+		assertThat(ReflectionTestUtils.getField(template, "compiled")).isSameAs(compiled);
+
+		other.expand(1);
+
+		assertThat(ReflectionTestUtils.getField(other, "compiled")).isNotSameAs(compiled);
+	}
+
 	private static void assertVariables(UriTemplate template, TemplateVariable... variables) {
 		assertVariables(template, Arrays.asList(variables));
 	}
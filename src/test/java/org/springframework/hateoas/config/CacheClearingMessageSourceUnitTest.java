@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Test;
+import org.springframework.hateoas.config.HateoasConfiguration.CacheClearingMessageSource;
+import org.springframework.hateoas.core.CachingMessageSourceAccessor;
+
+/**
+ * Unit tests for {@link CacheClearingMessageSource}.
+ *
+ * @author Oliver Gierke
+ */
+public class CacheClearingMessageSourceUnitTest {
+
+	@Test
+	public void clearsAccessorCacheWhenMessageSourceIsCleared() {
+
+		CacheClearingMessageSource messageSource = new CacheClearingMessageSource();
+		CachingMessageSourceAccessor accessor = spy(new CachingMessageSourceAccessor(messageSource));
+		messageSource.setAccessor(accessor);
+
+		messageSource.clearCache();
+
+		verify(accessor, times(1)).clearCache();
+	}
+
+	@Test
+	public void exposesCachingAccessorForLinkRelations() {
+		assertThat(new HateoasConfiguration().linkRelationMessageSource()).isInstanceOf(CachingMessageSourceAccessor.class);
+	}
+}
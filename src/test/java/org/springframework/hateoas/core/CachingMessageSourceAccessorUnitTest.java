@@ -0,0 +1,103 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for {@link CachingMessageSourceAccessor}.
+ *
+ * @author Oliver Gierke
+ */
+public class CachingMessageSourceAccessorUnitTest {
+
+	StaticMessageSource messageSource = spy(new StaticMessageSource());
+	CachingMessageSourceAccessor accessor = new CachingMessageSourceAccessor(messageSource);
+
+	@After
+	public void tearDown() {
+		LocaleContextHolder.resetLocaleContext();
+	}
+
+	@Test
+	public void cachesResolvedAndAbsentMessages() {
+
+		LocaleContextHolder.setLocale(Locale.US);
+		messageSource.addMessage("key", Locale.US, "value");
+
+		assertThat(accessor.findMessage("key")).isEqualTo("value");
+		assertThat(accessor.findMessage("key")).isEqualTo("value");
+		assertThat(accessor.findMessage("missing")).isNull();
+		assertThat(accessor.findMessage("missing")).isNull();
+
+		verify(messageSource, times(1)).getMessage(eq("key"), any(), eq(Locale.US));
+		verify(messageSource, times(1)).getMessage(eq("missing"), any(), eq(Locale.US));
+	}
+
+	@Test
+	public void cachesMessagesPerLocale() {
+
+		messageSource.addMessage("key", Locale.US, "value");
+		messageSource.addMessage("key", Locale.GERMANY, "Wert");
+
+		LocaleContextHolder.setLocale(Locale.US);
+		assertThat(accessor.findMessage("key")).isEqualTo("value");
+
+		LocaleContextHolder.setLocale(Locale.GERMANY);
+		assertThat(accessor.findMessage("key")).isEqualTo("Wert");
+	}
+
+	@Test
+	public void clearingCacheResolvesMessagesAgain() {
+
+		LocaleContextHolder.setLocale(Locale.US);
+
+		assertThat(accessor.findMessage("key")).isNull();
+
+		messageSource.addMessage("key", Locale.US, "value");
+		assertThat(accessor.findMessage("key")).isNull();
+
+		accessor.clearCache();
+		assertThat(accessor.findMessage("key")).isEqualTo("value");
+	}
+
+	@Test
+	public void onlyKeepsMessagesOfRecentlyUsedLocales() {
+
+		for (int i = 0; i < 1000; i++) {
+
+			LocaleContextHolder.setLocale(new Locale("x" + i));
+			accessor.findMessage("key");
+		}
+
+		Map<?, ?> cache = (Map<?, ?>) ReflectionTestUtils.getField(accessor, "cache");
+
+		assertThat(cache).hasSize(CachingMessageSourceAccessor.MAXIMUM_LOCALES);
+		assertThat(cache).containsKey(new Locale("x999"));
+		assertThat(cache).doesNotContainKey(new Locale("x0"));
+	}
+}
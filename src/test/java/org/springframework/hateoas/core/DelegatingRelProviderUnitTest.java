@@ -16,6 +16,7 @@
 package org.springframework.hateoas.core;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.List;
@@ -49,6 +50,33 @@ public class DelegatingRelProviderUnitTest {
 		assertThat(delegatingProvider.getCollectionResourceRelFor(String.class)).isEqualTo("stringList");
 	}
 
+	@Test
+	public void resolvesRelationsOnlyOncePerType() {
+
+		RelProvider provider = spy(new DefaultRelProvider());
+		PluginRegistry<RelProvider, Class<?>> registry = OrderAwarePluginRegistry.create(Arrays.asList(provider));
+
+		RelProvider delegatingProvider = new DelegatingRelProvider(registry);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(delegatingProvider.getItemResourceRelFor(String.class)).isEqualTo("string");
+			assertThat(delegatingProvider.getCollectionResourceRelFor(String.class)).isEqualTo("stringList");
+		}
+
+		verify(provider, times(1)).getItemResourceRelFor(String.class);
+		verify(provider, times(1)).getCollectionResourceRelFor(String.class);
+	}
+
+	@Test
+	public void annotationRelProviderRemembersMissingAnnotation() {
+
+		AnnotationRelProvider provider = new AnnotationRelProvider();
+
+		assertThat(provider.supports(String.class)).isFalse();
+		assertThat(provider.getItemResourceRelFor(String.class)).isNull();
+		assertThat(provider.getItemResourceRelFor(Sample.class)).isEqualTo("foo");
+	}
+
 	@Relation(value = "foo", collectionRelation = "bar")
 	static class Sample {
 
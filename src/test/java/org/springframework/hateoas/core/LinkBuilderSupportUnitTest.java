@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.*;
 
 import org.junit.Test;
 import org.springframework.hateoas.TestUtils;
+import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /**
@@ -65,6 +66,22 @@ public class LinkBuilderSupportUnitTest extends TestUtils {
 		assertThat(builder.toString()).endsWith("47:11");
 	}
 
+	@Test
+	public void rendersAppendedPathsLazilyLikeIntermediateBuilders() {
+
+		AppendingLinkBuilder appending = new AppendingLinkBuilder(UriComponentsBuilder.fromUriString("http://localhost/"));
+		SampleLinkBuilder sample = new SampleLinkBuilder(UriComponentsBuilder.fromUriString("http://localhost/"));
+
+		for (Object path : new Object[] { "foo#bar", "bar", "?page=1", "foo bar", "#baz", "47:11" }) {
+			appending = appending.slash(path);
+			sample = sample.slash(path);
+		}
+
+		assertThat(appending.toString()).isEqualTo("http://localhost/foo/bar/foo%20bar/47:11?page=1#baz");
+		assertThat(appending.toString()).isEqualTo(sample.toString());
+		assertThat(appending.toUri()).isEqualTo(sample.toUri());
+	}
+
 	static class SampleLinkBuilder extends LinkBuilderSupport<SampleLinkBuilder> {
 
 		public SampleLinkBuilder(UriComponentsBuilder builder) {
@@ -81,4 +98,30 @@ public class LinkBuilderSupportUnitTest extends TestUtils {
 			return new SampleLinkBuilder(builder);
 		}
 	}
+
+	static class AppendingLinkBuilder extends LinkBuilderSupport<AppendingLinkBuilder> {
+
+		public AppendingLinkBuilder(UriComponentsBuilder builder) {
+			super(builder);
+		}
+
+		private AppendingLinkBuilder(AppendingLinkBuilder source, UriComponents components, boolean encoded) {
+			super(source, components, encoded);
+		}
+
+		@Override
+		protected AppendingLinkBuilder getThis() {
+			return this;
+		}
+
+		@Override
+		protected AppendingLinkBuilder createNewInstance(UriComponentsBuilder builder) {
+			return new AppendingLinkBuilder(builder);
+		}
+
+		@Override
+		protected AppendingLinkBuilder createNewInstance(UriComponents components, boolean encoded) {
+			return new AppendingLinkBuilder(this, components, encoded);
+		}
+	}
 }
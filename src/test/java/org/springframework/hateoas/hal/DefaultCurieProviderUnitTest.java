@@ -122,6 +122,15 @@ public class DefaultCurieProviderUnitTest {
 		assertThat(provider.getNamespacedRelFor("custom:rel")).isEqualTo("custom:rel");
 	}
 
+	@Test
+	public void returnsSameNamespacedRelForRepeatedLookups() {
+
+		String namespacedRel = provider.getNamespacedRelFor("book");
+
+		assertThat(provider.getNamespacedRelFor("book")).isSameAs(namespacedRel);
+		assertThat(provider.getNamespacedRelFor("SELF")).isEqualTo("SELF");
+	}
+
 	/**
 	 * @see #363
 	 */
@@ -168,6 +177,56 @@ public class DefaultCurieProviderUnitTest {
 				it -> assertThat(it.getHref()).startsWith("http://localhost"));
 	}
 
+	@Test
+	public void precomputesCuriesForAbsoluteTemplates() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("acme", URI_TEMPLATE);
+
+		assertThat(provider.getCurieInformation(new Links())).isSameAs(provider.getCurieInformation(new Links()));
+	}
+
+	@Test
+	public void reusesCuriesForRelativeTemplatesPerApplicationUri() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("name", new UriTemplate("/docs/{rel}"));
+
+		try {
+
+			RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+			Collection<? extends Object> curies = provider.getCurieInformation(new Links());
+
+			RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+			assertThat(provider.getCurieInformation(new Links())).isSameAs(curies);
+
+			MockHttpServletRequest request = new MockHttpServletRequest();
+			request.setServerName("example.com");
+
+			RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+			assertThat(provider.getCurieInformation(new Links())).isNotSameAs(curies) //
+					.first().isInstanceOfSatisfying(Curie.class,
+							it -> assertThat(it.getHref()).isEqualTo("http://example.com/docs/{rel}"));
+
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
+
+	@Test
+	public void usesCustomizedCurieHref() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("acme", URI_TEMPLATE) {
+
+			@Override
+			protected String getCurieHref(String name, UriTemplate template) {
+				return "/custom/{rel}";
+			}
+		};
+
+		assertThat(provider.usesLinksForCurieInformation()).isFalse();
+		assertThat(provider.getCurieInformation(new Links())).first().isInstanceOfSatisfying(Curie.class,
+				it -> assertThat(it.getHref()).isEqualTo("/custom/{rel}"));
+	}
+
 	private static Map<String, UriTemplate> getCuries() {
 
 		Map<String, UriTemplate> curies = new HashMap<>(2);
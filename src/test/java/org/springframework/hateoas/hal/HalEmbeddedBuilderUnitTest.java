@@ -18,6 +18,8 @@ package org.springframework.hateoas.hal;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -25,6 +27,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.springframework.hateoas.RelProvider;
 import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.core.DefaultRelProvider;
 import org.springframework.hateoas.core.EmbeddedWrapper;
 import org.springframework.hateoas.core.EmbeddedWrappers;
 import org.springframework.hateoas.core.EvoInflectorRelProvider;
@@ -172,6 +175,43 @@ public class HalEmbeddedBuilderUnitTest {
 		new HalEmbeddedBuilder(provider, curieProvider, false).add(mock(EmbeddedWrapper.class));
 	}
 
+	@Test
+	public void collectsHomogeneousElementsIntoSingleListResolvingRelsOncePerType() {
+
+		RelProvider provider = spy(new DefaultRelProvider());
+		HalEmbeddedBuilder builder = new HalEmbeddedBuilder(provider, curieProvider, false);
+
+		List<String> values = new ArrayList<>();
+
+		for (int i = 0; i < 10000; i++) {
+			values.add("value" + i);
+			builder.add("value" + i);
+		}
+
+		builder.add(Arrays.asList("foo", "bar"));
+
+		Map<String, Object> map = builder.asMap();
+
+		assertThat(map).containsOnlyKeys("curie:stringList");
+		assertThat((List<?>) map.get("curie:stringList")).hasSize(10002).startsWith(values.toArray()).endsWith("foo", "bar");
+
+		verify(provider, times(1)).getCollectionResourceRelFor(String.class);
+		verify(provider, times(1)).getItemResourceRelFor(String.class);
+	}
+
+	@Test
+	public void doesNotModifyEmbeddedCollections() {
+
+		List<String> source = Arrays.asList("foo", "bar");
+		HalEmbeddedBuilder builder = new HalEmbeddedBuilder(provider, null, false);
+
+		builder.add(source);
+		builder.add("foobar");
+
+		assertThat(source).containsExactly("foo", "bar");
+		assertHasValues(builder.asMap(), "strings", "foo", "bar", "foobar");
+	}
+
 	@SuppressWarnings("unchecked")
 	private static void assertHasValues(Map<String, Object> source, String rel, Object... values) {
 
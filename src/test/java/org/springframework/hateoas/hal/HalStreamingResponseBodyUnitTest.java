@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.hal;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.PagedResources.PageMetadata;
+import org.springframework.hateoas.RelProvider;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.core.AnnotationRelProvider;
+import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link HalStreamingResponseBody}.
+ *
+ * @author Oliver Gierke
+ */
+public class HalStreamingResponseBodyUnitTest {
+
+	static final Function<SimpleAnnotatedPojo, Resource<SimpleAnnotatedPojo>> ASSEMBLER = it -> new Resource<>(it,
+			new Link("localhost"));
+
+	RelProvider relProvider = new AnnotationRelProvider();
+	List<SimpleAnnotatedPojo> pojos;
+
+	@Before
+	public void setUp() {
+		pojos = Arrays.asList(new SimpleAnnotatedPojo("test1", 1), new SimpleAnnotatedPojo("test2", 2));
+	}
+
+	@Test
+	public void rendersSameDocumentAsPagedResources() throws Exception {
+
+		ObjectMapper mapper = getMapper(null);
+		PageMetadata metadata = new PageMetadata(2, 0, 4);
+		Link next = new Link("foo", Link.REL_NEXT);
+
+		HalStreamingResponseBody<SimpleAnnotatedPojo> body = new HalStreamingResponseBody<>(mapper, relProvider, null,
+				pojos::stream, ASSEMBLER) //
+						.withLinks(next) //
+						.withPageMetadata(metadata);
+
+		PagedResources<Resource<SimpleAnnotatedPojo>> resources = new PagedResources<>(
+				pojos.stream().map(ASSEMBLER).collect(Collectors.toList()), metadata, next);
+
+		assertThat(render(body)).isEqualTo(mapper.writeValueAsString(resources));
+	}
+
+	@Test
+	public void rendersCuriesForNamespacedEmbeds() throws Exception {
+
+		CurieProvider curieProvider = new DefaultCurieProvider("foo", new UriTemplate("http://localhost:8080/rels/{rel}"));
+		ObjectMapper mapper = getMapper(curieProvider);
+
+		HalStreamingResponseBody<SimpleAnnotatedPojo> body = new HalStreamingResponseBody<>(mapper, relProvider,
+				curieProvider, pojos::stream, ASSEMBLER).withLinks(new Link("self"));
+
+		Resources<Resource<SimpleAnnotatedPojo>> resources = new Resources<>(
+				pojos.stream().map(ASSEMBLER).collect(Collectors.toList()), new Link("self"));
+
+		String result = render(body);
+
+		assertThat(result).contains("\"foo:pojos\"", "\"curies\"");
+		assertThat(result).isEqualTo(mapper.writeValueAsString(resources));
+	}
+
+	@Test
+	public void omitsEmbeddedsForEmptySource() throws Exception {
+
+		ObjectMapper mapper = getMapper(null);
+
+		HalStreamingResponseBody<SimpleAnnotatedPojo> body = new HalStreamingResponseBody<>(mapper, relProvider, null,
+				Stream::empty, ASSEMBLER).withLinks(new Link("self"));
+
+		assertThat(render(body))
+				.isEqualTo(mapper.writeValueAsString(new Resources<>(Collections.emptyList(), new Link("self"))));
+	}
+
+	@Test
+	public void closesStreamOfElements() throws Exception {
+
+		AtomicBoolean closed = new AtomicBoolean();
+
+		render(new HalStreamingResponseBody<>(getMapper(null), relProvider, null,
+				() -> pojos.stream().onClose(() -> closed.set(true)), ASSEMBLER));
+
+		assertThat(closed.get()).isTrue();
+	}
+
+	@Test
+	public void rejectsMissingRelProvider() {
+
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new HalStreamingResponseBody<>(getMapper(null), null, null, pojos::stream, ASSEMBLER));
+	}
+
+	private static String render(HalStreamingResponseBody<?> body) throws Exception {
+
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		body.writeTo(stream);
+
+		return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private ObjectMapper getMapper(CurieProvider curieProvider) {
+
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.registerModule(new Jackson2HalModule());
+		mapper.setHandlerInstantiator(new HalHandlerInstantiator(relProvider, curieProvider, null));
+
+		return mapper;
+	}
+}
@@ -16,6 +16,7 @@
 package org.springframework.hateoas.hal;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -34,6 +35,7 @@ import org.springframework.context.support.StaticMessageSource;
 import org.springframework.hateoas.AbstractJackson2MarshallingIntegrationTest;
 import org.springframework.hateoas.IanaLinkRelation;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.RelProvider;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.PagedResources.PageMetadata;
@@ -42,6 +44,8 @@ import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.core.AnnotationRelProvider;
+import org.springframework.hateoas.core.CachingMessageSourceAccessor;
+import org.springframework.hateoas.core.DefaultRelProvider;
 import org.springframework.hateoas.core.EmbeddedWrappers;
 import org.springframework.hateoas.hal.HalConfiguration.RenderSingleLinks;
 import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
@@ -358,6 +362,22 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		assertThat(getCuriedObjectMapper().writeValueAsString(resources)).isEqualTo(CURIED_DOCUMENT);
 	}
 
+	@Test
+	public void rendersCuriesAndLinkSubclassesConsistentlyWithWarmedUpSerializers() throws Exception {
+
+		ObjectMapper mapper = getCuriedObjectMapper();
+
+		ResourceSupport resource = new ResourceSupport();
+		resource.add(new ExtendedLink("foo", "self"));
+		resource.add(new Link("bar", "myrel"));
+
+		String first = mapper.writeValueAsString(resource);
+
+		assertThat(first).contains("\"extra\":\"value\"", "\"foo:myrel\":{\"href\":\"bar\"}",
+				"\"curies\":[{\"href\":\"http://localhost:8080/rels/{rel}\",\"name\":\"foo\",\"templated\":true}]");
+		assertThat(mapper.writeValueAsString(resource)).isEqualTo(first);
+	}
+
 	/**
 	 * @see #125
 	 */
@@ -443,6 +463,26 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		verifyResolvedTitle("_links.foobar.title");
 	}
 
+	@Test
+	public void rendersTitleResolvedThroughCachingMessageSourceAccessor() throws Exception {
+
+		LocaleContextHolder.setLocale(Locale.US);
+
+		StaticMessageSource messageSource = new StaticMessageSource();
+		messageSource.addMessage("_links.foobar.title", Locale.US, "Foobar's title!");
+
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new Jackson2HalModule());
+		objectMapper.setHandlerInstantiator(new HalHandlerInstantiator(new AnnotationRelProvider(), null,
+				new CachingMessageSourceAccessor(messageSource)));
+
+		ResourceSupport resource = new ResourceSupport();
+		resource.add(new Link("target", "ns:foobar"));
+
+		assertThat(objectMapper.writeValueAsString(resource)).isEqualTo(LINK_WITH_TITLE);
+		assertThat(objectMapper.writeValueAsString(resource)).isEqualTo(LINK_WITH_TITLE);
+	}
+
 	@Test
 	public void rendersSingleLinkAsArrayWhenConfigured() throws Exception {
 
@@ -455,6 +495,27 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		assertThat(write(resourceSupport)).isEqualTo("{\"_links\":{\"self\":[{\"href\":\"localhost\"}]}}");
 	}
 
+	@Test
+	public void groupsLinksByRelInOrderOfFirstOccurrence() throws Exception {
+
+		ResourceSupport resourceSupport = new ResourceSupport();
+		resourceSupport.add(new Link("first").withSelfRel());
+		resourceSupport.add(new Link("/foo{?bar}", "search"));
+		resourceSupport.add(new Link("second").withSelfRel().withProfile("profile"));
+
+		assertThat(write(resourceSupport)).isEqualTo("{\"_links\":{\"self\":[{\"href\":\"first\"},"
+				+ "{\"href\":\"second\",\"profile\":\"profile\"}],\"search\":{\"href\":\"/foo{?bar}\",\"templated\":true}}}");
+	}
+
+	@Test
+	public void rendersAdditionalPropertiesOfLinkSubclasses() throws Exception {
+
+		ResourceSupport resourceSupport = new ResourceSupport();
+		resourceSupport.add(new ExtendedLink("localhost", "self"));
+
+		assertThat(write(resourceSupport)).contains("\"href\":\"localhost\"", "\"extra\":\"value\"");
+	}
+
 	/**
 	 * @see #667
 	 */
@@ -517,6 +578,25 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		return new Resources<>(content);
 	}
 
+	@Test
+	public void mapsEmbeddedResourcesOnlyOncePerRendering() throws Exception {
+
+		RelProvider relProvider = spy(new DefaultRelProvider());
+
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.registerModule(new Jackson2HalModule());
+		mapper.setHandlerInstantiator(new HalHandlerInstantiator(relProvider,
+				new DefaultCurieProvider("foo", new UriTemplate("http://localhost:8080/rels/{rel}")), null));
+
+		Resources<String> resources = new Resources<>(Arrays.asList("first", "second"), new Link("foo"));
+
+		assertThat(mapper.writeValueAsString(resources)) //
+				.contains("\"foo:stringList\":[\"first\",\"second\"]") //
+				.contains("\"curies\"");
+
+		verify(relProvider, times(1)).getCollectionResourceRelFor(String.class);
+	}
+
 	private static ObjectMapper getCuriedObjectMapper() {
 
 		return getCuriedObjectMapper(new DefaultCurieProvider("foo", new UriTemplate("http://localhost:8080/rels/{rel}")),
@@ -532,4 +612,17 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 
 		return mapper;
 	}
+
+	static class ExtendedLink extends Link {
+
+		private static final long serialVersionUID = -3295232306693858387L;
+
+		public ExtendedLink(String href, String rel) {
+			super(href, rel);
+		}
+
+		public String getExtra() {
+			return "value";
+		}
+	}
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.springframework.format.annotation.NumberFormat;
+import org.springframework.hateoas.core.AnnotationAttribute;
+import org.springframework.hateoas.core.MethodParameters;
+import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.BoundMethodParameter;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.PathVariable;
+
+/**
+ * Unit tests for {@link AnnotatedParametersParameterAccessor}.
+ *
+ * @author Oliver Gierke
+ */
+public class AnnotatedParametersParameterAccessorUnitTest {
+
+	AnnotatedParametersParameterAccessor accessor = new AnnotatedParametersParameterAccessor(
+			new AnnotationAttribute(PathVariable.class));
+
+	@Test
+	public void bindsSimpleValuesWithoutConversion() {
+
+		UUID uuid = UUID.randomUUID();
+		List<BoundMethodParameter> parameters = bind("simple", "value", 4711L, uuid);
+
+		assertThat(parameters).extracting(BoundMethodParameter::getVariableName).containsExactly("string", "long", "uuid");
+		assertThat(parameters).extracting(BoundMethodParameter::asString).containsExactly("value", "4711",
+				uuid.toString());
+		assertThat(parameters).allMatch(BoundMethodParameter::isRequired);
+	}
+
+	@Test
+	public void appliesFormattingAnnotationsOnSimpleTypes() {
+
+		List<BoundMethodParameter> parameters = bind("formatted", 42L);
+
+		assertThat(parameters).extracting(BoundMethodParameter::asString).containsExactly("0042");
+	}
+
+	@Test
+	public void convertsValuesOfSubtypesOfDeclaredType() {
+
+		List<BoundMethodParameter> parameters = bind("object", 42L);
+
+		assertThat(parameters).extracting(BoundMethodParameter::asString).containsExactly("42");
+	}
+
+	private List<BoundMethodParameter> bind(String methodName, Object... arguments) {
+
+		Method method = ReflectionUtils.findMethod(Sample.class, methodName, (Class<?>[]) null);
+
+		return accessor.getBoundParameters(new MethodParameters(method), arguments);
+	}
+
+	interface Sample {
+
+		void simple(@PathVariable("string") String string, @PathVariable("long") Long id,
+				@PathVariable("uuid") UUID uuid);
+
+		void formatted(@PathVariable("padded") @NumberFormat(pattern = "0000") Long value);
+
+		void object(@PathVariable("object") Object value);
+	}
+}
@@ -32,15 +32,19 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.Mockito;
+import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.IanaLinkRelation;
 import org.springframework.hateoas.Identifiable;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.TemplateVariable;
 import org.springframework.hateoas.TemplateVariable.VariableType;
 import org.springframework.hateoas.TestUtils;
+import org.springframework.hateoas.core.DummyInvocationUtils;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -617,6 +621,101 @@ public class ControllerLinkBuilderUnitTest extends TestUtils {
 		assertThat(link.getHref()).isEqualTo("http://localhost/something/bar/foo");
 	}
 
+	@Test
+	public void reusesBaseUriWithinTheSameRequest() {
+
+		request.setContextPath("/ctx");
+
+		Link first = linkTo(PersonControllerImpl.class).withSelfRel();
+
+		request.setContextPath("/other");
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel()).isEqualTo(first);
+		assertThat(linkTo(methodOn(ControllerWithMethods.class).myMethod(null)).withSelfRel().getHref())
+				.isEqualTo("http://localhost/ctx/something/else");
+
+		setUp();
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref()).isEqualTo("http://localhost/people");
+	}
+
+	@Test
+	public void linksToMethodWithoutProxy() throws Exception {
+
+		Method method = ControllerWithMethods.class.getDeclaredMethod("methodForNextPage", String.class, Integer.class,
+				Integer.class);
+
+		Link link = linkToMethod(method, "1", 10, 5).withSelfRel();
+
+		Link reference = linkTo(methodOn(ControllerWithMethods.class).methodForNextPage("1", 10, 5)).withSelfRel();
+
+		assertThat(link.getHref()).isEqualTo(reference.getHref());
+		assertThat(link.getAffordances()).hasSameSizeAs(reference.getAffordances());
+	}
+
+	@Test
+	public void bindsCachedAffordancesToLinkOfInvocation() {
+
+		Link first = linkTo(methodOn(ControllerWithMethods.class).updateWithPayload("1", null)).withSelfRel();
+		Link second = linkTo(methodOn(ControllerWithMethods.class).updateWithPayload("2", null)).withSelfRel();
+
+		assertThat(first.getAffordances()).hasSize(1);
+		assertThat(second.getAffordances()).hasSize(1);
+
+		Affordance firstAffordance = first.getAffordances().get(0);
+		Affordance secondAffordance = second.getAffordances().get(0);
+
+		assertThat(firstAffordance.getHttpMethod()).isEqualTo(HttpMethod.PUT);
+		assertThat(firstAffordance.getInputType().resolve()).isEqualTo(Object.class);
+		assertThat(firstAffordance.getQueryMethodParameters()).isSameAs(secondAffordance.getQueryMethodParameters());
+		assertThat(firstAffordance.getLink().getHref()).contains("/something/1/foo");
+		assertThat(secondAffordance.getLink().getHref()).contains("/something/2/foo");
+	}
+
+	@Test
+	public void createsLinksForBatchOfIds() {
+
+		List<Link> links = linksTo(PersonControllerImpl.class, Arrays.asList(1L, 2L, 3L), "person");
+
+		assertThat(links).extracting(Link::getHref).containsExactly("http://localhost/people/1",
+				"http://localhost/people/2", "http://localhost/people/3");
+		assertThat(links).extracting(Link::getRel).containsOnly("person");
+	}
+
+	@Test
+	public void createsLinksForBatchOfMethodArguments() throws Exception {
+
+		Method method = ControllerWithMethods.class.getDeclaredMethod("methodWithPathVariable", String.class);
+
+		List<Link> links = linksToMethod(ControllerWithMethods.class, method,
+				Arrays.asList(new Object[] { "1" }, new Object[] { "2" }), "foo");
+
+		assertThat(links).extracting(Link::getHref).containsExactly("http://localhost/something/1/foo",
+				"http://localhost/something/2/foo");
+		assertThat(links.get(0)).isEqualTo(linkTo(methodOn(ControllerWithMethods.class).methodWithPathVariable("1")).withRel("foo"));
+	}
+
+	@Test
+	public void linksToMethodWithoutProxyUsingTypeLevelParameters() throws Exception {
+
+		Method method = PersonsAddressesController.class.getMethod("getAddressesForCountry", String.class);
+
+		Link link = linkTo(DummyInvocationUtils.invocationOf(PersonsAddressesController.class, method,
+				new Object[] { "DE" }, 15)).withSelfRel();
+
+		assertThat(link.getHref()).endsWith("/people/15/addresses/DE");
+	}
+
+	@Test
+	public void rejectsArgumentsNotMatchingMethodParameters() throws Exception {
+
+		Method method = PersonsAddressesController.class.getMethod("getAddressesForCountry", String.class);
+
+		exception.expect(IllegalArgumentException.class);
+
+		linkToMethod(method, "DE", "US");
+	}
+
 	private static UriComponents toComponents(Link link) {
 		return UriComponentsBuilder.fromUriString(link.expand().getHref()).build();
 	}
@@ -684,6 +783,11 @@ public class ControllerLinkBuilderUnitTest extends TestUtils {
 			return null;
 		}
 
+		@PutMapping("/{id}/foo")
+		HttpEntity<Void> updateWithPayload(@PathVariable String id, @RequestBody Object payload) {
+			return null;
+		}
+
 		@RequestMapping(value = "/{id}/foo")
 		HttpEntity<Void> methodWithAlternatePathVariable(@PathVariable(name = "id") String otherId) {
 			return null;
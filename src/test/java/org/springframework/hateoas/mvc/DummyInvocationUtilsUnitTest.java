@@ -17,10 +17,17 @@ package org.springframework.hateoas.mvc;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Test;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.TestUtils;
 import org.springframework.hateoas.core.DummyInvocationUtils;
+import org.springframework.hateoas.core.DummyInvocationUtils.InvocationRecorder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -48,6 +55,60 @@ public class DummyInvocationUtilsUnitTest extends TestUtils {
 		assertThat(link.getHref()).isEqualTo("http://localhost/sample/2/bar");
 	}
 
+	@Test
+	public void keepsInvocationsOfSubsequentlyCreatedProxiesApart() {
+
+		Object first = DummyInvocationUtils.methodOn(SampleController.class).someMethod(1L);
+		Object second = DummyInvocationUtils.methodOn(SampleController.class).someOtherMethod(2L);
+
+		assertThat(ControllerLinkBuilder.linkTo(first).withSelfRel().getHref()).isEqualTo("http://localhost/sample/1/foo");
+		assertThat(ControllerLinkBuilder.linkTo(second).withSelfRel().getHref()).isEqualTo("http://localhost/sample/2/bar");
+	}
+
+	@Test
+	public void recorderReusesProxyForSubsequentInvocations() {
+
+		InvocationRecorder<SampleController> recorder = DummyInvocationUtils.recorder(SampleController.class);
+
+		SampleController first = recorder.methodOn();
+		Link firstLink = ControllerLinkBuilder.linkTo(first.someMethod(1L)).withSelfRel();
+
+		SampleController second = recorder.methodOn();
+		Link secondLink = ControllerLinkBuilder.linkTo(second.someOtherMethod(3L)).withSelfRel();
+
+		assertThat(first).isSameAs(second);
+		assertThat(firstLink.getHref()).isEqualTo("http://localhost/sample/1/foo");
+		assertThat(secondLink.getHref()).isEqualTo("http://localhost/sample/3/bar");
+	}
+
+	@Test
+	public void buildsLinksConcurrently() throws Exception {
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+
+			List<Future<String>> results = new ArrayList<>();
+
+			for (long i = 0; i < 1000; i++) {
+
+				long id = i;
+
+				results.add(executor.submit(() -> ControllerLinkBuilder
+						.linkTo(DummyInvocationUtils.methodOn(SampleController.class).someMethod(id)) //
+						.withSelfRel() //
+						.getHref()));
+			}
+
+			for (int i = 0; i < results.size(); i++) {
+				assertThat(results.get(i).get()).isEqualTo("/sample/" + i + "/foo");
+			}
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@RequestMapping("/sample")
 	static class SampleController {
 
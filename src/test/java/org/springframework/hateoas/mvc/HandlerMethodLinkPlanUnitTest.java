@@ -0,0 +1,147 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.web.util.UriComponents.UriTemplateVariables.*;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.BoundMethodParameter;
+import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.ParameterBinding;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.ChildControllerWithRootMapping;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.ControllerWithMethods;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.ParentControllerWithoutRootMapping;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.PersonsAddressesController;
+
+/**
+ * Unit tests for {@link HandlerMethodLinkPlan}.
+ *
+ * @author Oliver Gierke
+ */
+public class HandlerMethodLinkPlanUnitTest {
+
+	@Test
+	public void precomputesMappingAndVariableNames() throws Exception {
+
+		Method method = PersonsAddressesController.class.getMethod("getAddressesForCountry", String.class);
+		HandlerMethodLinkPlan plan = HandlerMethodLinkPlan.of(PersonsAddressesController.class, method);
+
+		assertThat(plan.getMapping()).isEqualTo("/people/{id}/addresses/{country}");
+		assertThat(plan.getVariableNames()).containsExactly("id", "country");
+		assertThat(plan.getParameters().getParameters()).hasSize(1);
+	}
+
+	@Test
+	public void cachesPlanPerTypeAndMethod() throws Exception {
+
+		Method method = PersonsAddressesController.class.getMethod("getAddressesForCountry", String.class);
+
+		assertThat(HandlerMethodLinkPlan.of(PersonsAddressesController.class, method)) //
+				.isSameAs(HandlerMethodLinkPlan.of(PersonsAddressesController.class, method));
+	}
+
+	@Test
+	public void usesTypeMappingOfTargetTypeForInheritedMethods() throws Exception {
+
+		Method method = ParentControllerWithoutRootMapping.class.getMethod("someEmptyMappedMethod");
+
+		HandlerMethodLinkPlan parent = HandlerMethodLinkPlan.of(ParentControllerWithoutRootMapping.class, method);
+		HandlerMethodLinkPlan child = HandlerMethodLinkPlan.of(ChildControllerWithRootMapping.class, method);
+
+		assertThat(parent).isNotSameAs(child);
+		assertThat(child.getMapping()).isEqualTo("/root");
+	}
+
+	@Test
+	public void precomputesParameterBindings() throws Exception {
+
+		Method method = ControllerWithMethods.class.getDeclaredMethod("methodForNextPage", String.class, Integer.class,
+				Integer.class);
+		HandlerMethodLinkPlan plan = HandlerMethodLinkPlan.of(ControllerWithMethods.class, method);
+
+		List<ParameterBinding> pathVariables = plan.getPathVariables();
+		List<ParameterBinding> requestParameters = plan.getRequestParameters();
+
+		assertThat(pathVariables).hasSize(1);
+		assertThat(pathVariables.get(0).getIndex()).isEqualTo(0);
+		assertThat(pathVariables.get(0).getMetadata().getVariableName()).isEqualTo("id");
+
+		assertThat(requestParameters).hasSize(2);
+		assertThat(requestParameters.get(0).getIndex()).isEqualTo(1);
+		assertThat(requestParameters.get(0).getMetadata().isRequired()).isFalse();
+		assertThat(requestParameters.get(1).getIndex()).isEqualTo(2);
+		assertThat(requestParameters.get(1).getMetadata().isRequired()).isTrue();
+	}
+
+	@Test
+	public void bindsArgumentsUsingPrecomputedBindings() throws Exception {
+
+		Method method = ControllerWithMethods.class.getDeclaredMethod("methodForNextPage", String.class, Integer.class,
+				Integer.class);
+		HandlerMethodLinkPlan plan = HandlerMethodLinkPlan.of(ControllerWithMethods.class, method);
+		Object[] arguments = { "1", null, 10 };
+
+		List<BoundMethodParameter> pathVariables = plan.getBoundPathVariables(arguments);
+		List<BoundMethodParameter> requestParameters = plan.getBoundRequestParameters(arguments);
+
+		assertThat(pathVariables).hasSize(1);
+		assertThat(pathVariables.get(0).asString()).isEqualTo("1");
+
+		assertThat(requestParameters).hasSize(2);
+		assertThat(requestParameters.get(0).getValue()).isEqualTo(SKIP_VALUE);
+		assertThat(requestParameters.get(1).asString()).isEqualTo("10");
+	}
+
+	@Test
+	public void expandsMappingKeepingUnboundVariables() throws Exception {
+
+		Method method = PersonsAddressesController.class.getMethod("getAddressesForCountry", String.class);
+		HandlerMethodLinkPlan plan = HandlerMethodLinkPlan.of(PersonsAddressesController.class, method);
+
+		Map<String, Object> values = new HashMap<>();
+		values.put("id", SKIP_VALUE);
+		values.put("country", "DE");
+
+		assertThat(plan.expandMapping(values)).isEqualTo("/people/{id}/addresses/DE");
+		assertThat(plan.expandMapping(Collections.emptyMap())).isEqualTo("/people/{id}/addresses/{country}");
+	}
+
+	@Test
+	public void splitsMappingWithRegularExpressionsIntoSegments() {
+
+		List<HandlerMethodLinkPlan.MappingSegment> segments = HandlerMethodLinkPlan.MappingSegment
+				.parse("/people/{id:\\d+}/{code:[a-z]{2}}/{");
+
+		assertThat(segments).hasSize(5);
+		assertThat(segments.get(1).getSource()).isEqualTo("{id:\\d+}");
+		assertThat(segments.get(1).getVariableName()).isEqualTo("id");
+		assertThat(segments.get(3).getSource()).isEqualTo("{code:[a-z]{2}}");
+		assertThat(segments.get(3).getVariableName()).isEqualTo("code");
+		assertThat(segments.get(4).getSource()).isEqualTo("/{");
+		assertThat(segments.get(4).getVariableName()).isNull();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullMethod() {
+		HandlerMethodLinkPlan.of(PersonsAddressesController.class, null);
+	}
+}
@@ -134,6 +134,35 @@ public class IdentifiableResourceAssemblerSupportUnitTest extends TestUtils {
 		assertThat(result).contains(firstResource, secondResource);
 	}
 
+	@Test
+	public void createsIndividualSelfLinksForBatchOfResources() {
+
+		Person first = new Person();
+		first.id = 1L;
+		Person second = new Person();
+		second.id = 2L;
+
+		List<PersonResource> result = assembler.createResources(Arrays.asList(first, second));
+
+		assertThat(result).extracting(it -> it.getRequiredLink(IanaLinkRelation.SELF.value()).getHref()) //
+				.containsExactly("http://localhost/people/1", "http://localhost/people/2");
+	}
+
+	@Test
+	public void createsSelfLinksForBatchOfResourcesUsingIdExtractor() {
+
+		Person first = new Person();
+		first.alternateId = "first";
+		Person second = new Person();
+		second.alternateId = "second";
+
+		List<PersonResource> result = assembler.createResourcesWithIds(Arrays.asList(first, second),
+				it -> it.alternateId);
+
+		assertThat(result).extracting(it -> it.getRequiredLink(IanaLinkRelation.SELF.value()).getHref()) //
+				.containsExactly("http://localhost/people/first", "http://localhost/people/second");
+	}
+
 	@RequestMapping("/people")
 	static class PersonController {
 
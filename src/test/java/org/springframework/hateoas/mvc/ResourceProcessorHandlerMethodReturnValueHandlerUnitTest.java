@@ -21,6 +21,7 @@ import static org.mockito.Mockito.*;
 import static org.springframework.util.ReflectionUtils.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -314,6 +315,19 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTest {
 		invokeReturnValueHandler("wildcardedResources", FOOS, BARS);
 	}
 
+	@Test
+	public void replacesProcessedElementsOfResources() {
+
+		resourceProcessors.add(StringResourceProcessor.INSTANCE);
+
+		Resources<Resource<String>> resources = Resources.wrap(Arrays.asList("foo", "foo"));
+		Resources<Resource<String>> result = new ResourceProcessorInvoker(resourceProcessors).invokeProcessorsFor(resources,
+				ResolvableType.forClassWithGenerics(Resources.class,
+						ResolvableType.forClassWithGenerics(Resource.class, String.class)));
+
+		assertThat(result.getContent()).containsExactly(BAR, BAR);
+	}
+
 	private void invokeReturnValueHandler(String method, Object returnValue, Object expected) throws Exception {
 
 		MethodParameter methodParam = METHOD_PARAMS.get(method);